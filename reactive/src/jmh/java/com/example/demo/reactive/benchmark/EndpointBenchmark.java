@@ -0,0 +1,107 @@
+package com.example.demo.reactive.benchmark;
+
+import com.example.demo.util.JsonUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MVC(Tomcat) 와 WebFlux(Netty) 서버의 발행 / 검증 처리량을 높은 동시성에서 비교
+ * 두 서버를 검증 결과 캐시를 끄고 먼저 띄워 둔 뒤 실행, 같은 요청문을 반복해서 보내므로 캐시가 켜져 있으면 첫 호출 뒤로는
+ * 서명 검증 없이 캐시된 결과만 돌려주게 됨
+ *     ./gradlew bootRun --args=--verifyCache.maximumSize=0
+ *     ./gradlew :reactive:bootRun --args=--verifyCache.maximumSize=0
+ * ex) ./gradlew :reactive:jmh -PjmhParams="baseUrl=http://localhost:8080,http://localhost:8081"
+ *     동시 요청 수 변경: JMH 의 -t 옵션 (기본 256 스레드)
+ * 가상 스레드 모드(threads.virtual) 의 연결 수에 따른 p99 비교는 LoadTestApplication 의 가상 스레드 시나리오로 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(256)
+@Fork(1)
+public class EndpointBenchmark {
+
+	private static final String CLAIM = "{\"uniqueId\":\"1000\",\"name\":\"test\",\"num\":\"10\"}";
+
+	/**
+	 * 서버 주소, MVC 는 8080, WebFlux 는 8081
+	 */
+	@Param({"http://localhost:8080", "http://localhost:8081"})
+	public String baseUrl;
+
+	private String createPath;
+	private byte[] claim;
+	private byte[] reqMsg;
+
+	/**
+	 * 키 페어를 만들어 두고, 검증에 쓸 요청문을 한 번 발행 (서버의 verifyCache 가 꺼져 있어야 매번 서명을 검증)
+	 */
+	@Setup
+	public void setUp() throws IOException {
+		Map<String, Object> keyPair = JsonUtil.readValueMap(new String(request("GET", "/createKeyPair", null),
+				StandardCharsets.UTF_8));
+		createPath = "/createReqMsg?publicKey=" + keyPair.get("publicKey") + "&privateKey=" + keyPair.get("privateKey");
+		claim = CLAIM.getBytes(StandardCharsets.UTF_8);
+		reqMsg = request("POST", createPath, claim);
+	}
+
+	@Benchmark
+	public byte[] createReqMsg() throws IOException {
+		return request("POST", createPath, claim);
+	}
+
+	@Benchmark
+	public byte[] verifyReqMsg() throws IOException {
+		return request("POST", "/verifyReqMsg", reqMsg);
+	}
+
+	/**
+	 * 응답 본문을 끝까지 읽어 HttpURLConnection 이 keep-alive 로 연결을 재사용하도록 함
+	 */
+	private byte[] request(String method, String path, byte[] body) throws IOException {
+		HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+		connection.setRequestMethod(method);
+		if (body != null) {
+			connection.setDoOutput(true);
+			connection.setRequestProperty("Content-Type", "application/json");
+			try (OutputStream out = connection.getOutputStream()) {
+				out.write(body);
+			}
+		}
+		int status = connection.getResponseCode();
+		if (status != HttpURLConnection.HTTP_OK) {
+			throw new IOException(path + " 응답 코드: " + status);
+		}
+		try (InputStream in = connection.getInputStream()) {
+			ByteArrayOutputStream response = new ByteArrayOutputStream();
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				response.write(buffer, 0, read);
+			}
+			return response.toByteArray();
+		}
+	}
+}
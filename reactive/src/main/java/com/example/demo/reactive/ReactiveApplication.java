@@ -0,0 +1,31 @@
+package com.example.demo.reactive;
+
+import com.example.demo.config.CryptoExecutor;
+import com.example.demo.config.KeyPairPool;
+import com.example.demo.config.RsaKeyGenerator;
+import com.example.demo.config.VerifyProperties;
+import com.example.demo.keyring.IssuerRegistry;
+import com.example.demo.keyring.KeyRing;
+import com.example.demo.service.JwsService;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.annotation.Import;
+
+/**
+ * WebFlux(Netty) 서버
+ * 루트 모듈의 application.yml 을 먼저 읽고 reactive.yml 로 덮어씀
+ */
+@SpringBootApplication
+@Import({VerifyProperties.class, RsaKeyGenerator.class, KeyPairPool.class, CryptoExecutor.class, KeyRing.class,
+		IssuerRegistry.class, JwsService.class})
+public class ReactiveApplication {
+
+	public static final String CONFIG_NAME = "spring.config.name=application,reactive";
+
+	public static void main(String[] args) {
+		new SpringApplicationBuilder(ReactiveApplication.class)
+				.properties(CONFIG_NAME)
+				.run(args);
+	}
+
+}
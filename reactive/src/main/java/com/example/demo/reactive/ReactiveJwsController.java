@@ -0,0 +1,126 @@
+package com.example.demo.reactive;
+
+import com.example.demo.config.CryptoExecutor;
+import com.example.demo.config.KeyPairPool;
+import com.example.demo.config.VerifyProperties;
+import com.example.demo.controller.JwsRestController;
+import com.example.demo.model.Request;
+import com.example.demo.service.JwsService;
+import com.example.demo.util.Base58Util;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.ByteArrayOutputStream;
+import java.security.KeyPair;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JwsRestController 의 키 생성 / 발행 / 검증 API 를 WebFlux 로 제공
+ * 요청 본문은 Netty 이벤트 루프에서 논블로킹으로 모두 읽은 뒤, 서명 / 검증은 CryptoExecutor 의 고정 크기 풀에서 처리
+ * 느린 클라이언트가 많아도 본문을 기다리는 동안 암호 연산 스레드를 점유하지 않고, 암호 연산은 코어 수 이상 동시에 돌지 않음
+ */
+@RestController
+public class ReactiveJwsController {
+
+	protected final VerifyProperties verifyProperties;
+	protected final KeyPairPool keyPairPool;
+	protected final JwsService jwsService;
+
+	/**
+	 * 암호 연산 스케줄러 (CryptoExecutor 의 스레드 풀)
+	 */
+	protected final Scheduler cryptoScheduler;
+
+	public ReactiveJwsController(VerifyProperties verifyProperties, KeyPairPool keyPairPool, JwsService jwsService,
+			CryptoExecutor cryptoExecutor) {
+		this.verifyProperties = verifyProperties;
+		this.keyPairPool = keyPairPool;
+		this.jwsService = jwsService;
+		this.cryptoScheduler = Schedulers.fromExecutorService(cryptoExecutor.getExecutorService(), "crypto");
+	}
+
+	/**
+	 * 설정된 서명 알고리즘(keyPair.algorithm)의 키 페어 생성
+	 * @return Base58 로 인코딩된 공개키 / 개인키
+	 */
+	@GetMapping("createKeyPair")
+	public Mono<Map<String, Object>> createKeyPair() {
+		return Mono.fromCallable(() -> {
+			// 미리 생성해 둔 키 페어를 사용하고, 풀이 비어 있으면 암호 연산 스레드에서 바로 생성
+			KeyPair keyPair = keyPairPool.take();
+			Map<String, Object> strKeymap = new HashMap<>();
+			strKeymap.put("publicKey", Base58Util.encode(keyPair.getPublic().getEncoded()));
+			strKeymap.put("privateKey", Base58Util.encode(keyPair.getPrivate().getEncoded()));
+			return strKeymap;
+		}).subscribeOn(cryptoScheduler);
+	}
+
+	/**
+	 * JWS 토큰 발행
+	 * @param keyPair 서명 키 페어 (없으면 서버 키)
+	 * @param claim credentialSubject
+	 * @param jsonFormat compact 또는 pretty (없으면 response.prettyPrint 설정)
+	 * @return JWS 가 발급된 요청문 (UTF-8 JSON)
+	 */
+	@PostMapping("createReqMsg")
+	public Mono<ResponseEntity<byte[]>> createReqMsg(Request keyPair, @RequestBody Mono<String> claim,
+			@RequestHeader(value = JwsRestController.JSON_FORMAT_HEADER, required = false) String jsonFormat) {
+		boolean pretty = jsonFormat == null ? verifyProperties.isResponsePrettyPrint()
+				: !JwsRestController.JSON_FORMAT_COMPACT.equalsIgnoreCase(jsonFormat);
+		return claim.flatMap(body -> Mono.fromCallable(() -> {
+			ByteArrayOutputStream out = new ByteArrayOutputStream(body.length() + 1024);
+			jwsService.writeReqMsg(keyPair, body, out, pretty);
+			return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(out.toByteArray());
+		}).subscribeOn(cryptoScheduler));
+	}
+
+	/**
+	 * JWS 토큰을 CBOR 요청문으로 발행 (Accept: application/cbor)
+	 * @param keyPair 서명 키 페어 (없으면 서버 키)
+	 * @param claim credentialSubject (JSON)
+	 * @return CBOR 요청문
+	 */
+	@PostMapping(value = "createReqMsg", produces = MediaType.APPLICATION_CBOR_VALUE)
+	public Mono<byte[]> createReqMsgCbor(Request keyPair, @RequestBody Mono<String> claim) {
+		return claim.flatMap(body -> Mono.fromCallable(() -> jwsService.createReqMsgCbor(keyPair, body))
+				.subscribeOn(cryptoScheduler));
+	}
+
+	/**
+	 * JWS 토큰 검증
+	 * @param reqMsg 요청문
+	 * @return 검증 결과
+	 */
+	@PostMapping("verifyReqMsg")
+	public Mono<ResponseEntity<Object>> verifyReqMsg(@RequestBody Mono<String> reqMsg) {
+		return reqMsg.flatMap(body -> Mono.fromCallable(() -> jwsService.verifyReqMsg(body))
+				.subscribeOn(cryptoScheduler))
+				.map(verified -> verified
+						? new ResponseEntity<>((Object) "검증 성공하였습니다.", HttpStatus.OK)
+						: new ResponseEntity<>((Object) "검증 실패하였습니다.", HttpStatus.BAD_REQUEST));
+	}
+
+	/**
+	 * CBOR 요청문 검증 (Content-Type: application/cbor)
+	 * @param reqMsg CBOR 요청문
+	 * @return 검증 결과
+	 */
+	@PostMapping(value = "verifyReqMsg", consumes = MediaType.APPLICATION_CBOR_VALUE)
+	public Mono<ResponseEntity<Object>> verifyReqMsgCbor(@RequestBody Mono<byte[]> reqMsg) {
+		return reqMsg.flatMap(body -> Mono.fromCallable(() -> jwsService.verifyReqMsgCbor(body))
+				.subscribeOn(cryptoScheduler))
+				.map(verified -> verified
+						? new ResponseEntity<>((Object) "검증 성공하였습니다.", HttpStatus.OK)
+						: new ResponseEntity<>((Object) "검증 실패하였습니다.", HttpStatus.BAD_REQUEST));
+	}
+}
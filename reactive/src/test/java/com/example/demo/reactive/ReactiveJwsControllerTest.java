@@ -0,0 +1,53 @@
+package com.example.demo.reactive;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = ReactiveApplication.CONFIG_NAME)
+class ReactiveJwsControllerTest {
+
+	private static final String CLAIM = "{\"uniqueId\":\"1000\",\"name\":\"test\",\"num\":\"10\"}";
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Test
+	void createKeyPair_createReqMsg_verifyReqMsg() {
+		Map<String, Object> keyPair = webTestClient.get().uri("/createKeyPair")
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody(new ParameterizedTypeReference<Map<String, Object>>() {})
+				.returnResult().getResponseBody();
+		assertNotNull(keyPair);
+
+		String reqMsg = webTestClient.post()
+				.uri(builder -> builder.path("/createReqMsg")
+						.queryParam("publicKey", keyPair.get("publicKey"))
+						.queryParam("privateKey", keyPair.get("privateKey"))
+						.build())
+				.bodyValue(CLAIM)
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody(String.class)
+				.returnResult().getResponseBody();
+		assertNotNull(reqMsg);
+
+		webTestClient.post().uri("/verifyReqMsg")
+				.bodyValue(reqMsg)
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody(String.class).isEqualTo("검증 성공하였습니다.");
+
+		webTestClient.post().uri("/verifyReqMsg")
+				.bodyValue(reqMsg.replace("\"test\"", "\"tesT\""))
+				.exchange()
+				.expectStatus().isBadRequest();
+	}
+}
@@ -0,0 +1,83 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.util.Base58Util;
+import org.bitcoinj.core.Base58;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * bitcoinj Base58 와 Base58Util 비교
+ * input: header(9 바이트), payload(64 바이트 hex), publicKey / privateKey(RSA X.509 / PKCS#8)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Base58Benchmark {
+
+	@Param({"header", "payload", "publicKey", "privateKey"})
+	public String input;
+
+	@Param({"2048"})
+	public int keySize;
+
+	private byte[] bytes;
+	private String encoded;
+
+	@Setup
+	public void setUp() throws Exception {
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+		keyPairGenerator.initialize(keySize);
+		KeyPair keyPair = keyPairGenerator.genKeyPair();
+		switch (input) {
+			case "header":
+				bytes = "JWSSHA256".getBytes("UTF-8");
+				break;
+			case "payload":
+				bytes = "d8a1f3c2e4b5a6978812736455463728190a0b0c0d0e0f101112131415161718".getBytes("UTF-8");
+				break;
+			case "publicKey":
+				bytes = keyPair.getPublic().getEncoded();
+				break;
+			default:
+				bytes = keyPair.getPrivate().getEncoded();
+				break;
+		}
+		encoded = Base58.encode(bytes);
+	}
+
+	@Benchmark
+	public String encodeBitcoinj() {
+		return Base58.encode(bytes);
+	}
+
+	@Benchmark
+	public String encodeBase58Util() {
+		return Base58Util.encode(bytes);
+	}
+
+	@Benchmark
+	public byte[] decodeBitcoinj() {
+		return Base58.decode(encoded);
+	}
+
+	@Benchmark
+	public byte[] decodeBase58Util() {
+		return Base58Util.decode(encoded);
+	}
+}
@@ -0,0 +1,135 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.util.Base58Util;
+import com.example.demo.util.BinaryCodec;
+import com.example.demo.util.ByteUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Java 직렬화 (ByteUtil.objectToBytes / bytesToObject) 와 BinaryCodec 비교
+ * input: publicKey (RSA X.509), claim (JSON), token (header.payload.signature)
+ * *Direct 는 미리 할당한 직접 버퍼에 인코딩 / 디코딩
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryCodecBenchmark {
+
+	private static final String CLAIM = "{\"uniqueId\":\"1000\",\"name\":\"test\",\"num\":\"10\","
+			+ "\"department\":\"platform\",\"grade\":3,\"active\":true}";
+
+	@Param({"publicKey", "claim", "token"})
+	public String input;
+
+	@Param({"2048"})
+	public int keySize;
+
+	private Object value;
+	private byte[] serialized;
+	private byte[] encoded;
+	private ByteBuffer direct;
+
+	@Setup
+	public void setUp() throws Exception {
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+		keyPairGenerator.initialize(keySize);
+		KeyPair keyPair = keyPairGenerator.genKeyPair();
+		switch (input) {
+			case "publicKey":
+				value = keyPair.getPublic();
+				break;
+			case "claim":
+				value = CLAIM;
+				break;
+			default:
+				byte[] signature = new byte[keySize / 8];
+				value = "2VfUX8Es3hh." + Base58Util.encode(ByteUtil.bytesToHex(new byte[32], new byte[64])) + "."
+						+ Base64.getEncoder().encodeToString(signature);
+				break;
+		}
+		serialized = ByteUtil.objectToBytes(value);
+		encoded = encode();
+		direct = ByteBuffer.allocateDirect(encoded.length * 2);
+		System.out.printf("%n%s: Java 직렬화 %d 바이트, BinaryCodec %d 바이트%n", input, serialized.length, encoded.length);
+	}
+
+	@Benchmark
+	public byte[] serializeJava() throws Exception {
+		return ByteUtil.objectToBytes(value);
+	}
+
+	@Benchmark
+	public Object deserializeJava() throws Exception {
+		return ByteUtil.bytesToObject(serialized);
+	}
+
+	@Benchmark
+	public byte[] encodeBinary() throws Exception {
+		return encode();
+	}
+
+	@Benchmark
+	public Object decodeBinary() throws Exception {
+		return decode(ByteBuffer.wrap(encoded));
+	}
+
+	@Benchmark
+	public Object encodeDecodeDirect() throws Exception {
+		direct.clear();
+		switch (input) {
+			case "publicKey":
+				BinaryCodec.encodeKey((PublicKey) value, direct);
+				break;
+			case "claim":
+				BinaryCodec.encodeClaim((String) value, direct);
+				break;
+			default:
+				BinaryCodec.encodeToken((String) value, direct);
+				break;
+		}
+		direct.flip();
+		return decode(direct);
+	}
+
+	private byte[] encode() throws Exception {
+		switch (input) {
+			case "publicKey":
+				return BinaryCodec.encodeKey((PublicKey) value);
+			case "claim":
+				return BinaryCodec.encodeClaim((String) value);
+			default:
+				return BinaryCodec.encodeToken((String) value);
+		}
+	}
+
+	private Object decode(ByteBuffer src) throws Exception {
+		switch (input) {
+			case "publicKey":
+				return BinaryCodec.decodeKey(src);
+			case "claim":
+				return BinaryCodec.decodeClaim(src);
+			default:
+				return BinaryCodec.decodeToken(src);
+		}
+	}
+}
@@ -0,0 +1,83 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.util.CryptoPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.Cipher;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 / 검증 경로에서 Cipher, MessageDigest 를 매번 생성할 때와 CryptoPool 로 재사용할 때의 처리량 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class CryptoPoolBenchmark {
+
+	private KeyPair keyPair;
+	private byte[] claim;
+	private byte[] signature;
+
+	@Setup
+	public void setUp() throws Exception {
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+		keyPairGenerator.initialize(2048);
+		keyPair = keyPairGenerator.genKeyPair();
+		claim = "{\"uniqueId\":\"1000\",\"name\":\"test\",\"num\":\"10\"}".getBytes(StandardCharsets.UTF_8);
+
+		Cipher cipher = Cipher.getInstance("RSA");
+		cipher.init(Cipher.ENCRYPT_MODE, keyPair.getPrivate());
+		signature = cipher.doFinal(MessageDigest.getInstance("SHA-256").digest(claim));
+	}
+
+	@Benchmark
+	public byte[] signNewInstance() throws Exception {
+		byte[] hash = MessageDigest.getInstance("SHA-256").digest(claim);
+		Cipher cipher = Cipher.getInstance("RSA");
+		cipher.init(Cipher.ENCRYPT_MODE, keyPair.getPrivate());
+		return cipher.doFinal(hash);
+	}
+
+	@Benchmark
+	public byte[] signPooled() throws Exception {
+		byte[] hash = CryptoPool.digest("SHA-256").digest(claim);
+		Cipher cipher = CryptoPool.cipher("RSA");
+		cipher.init(Cipher.ENCRYPT_MODE, keyPair.getPrivate());
+		return cipher.doFinal(hash);
+	}
+
+	@Benchmark
+	public byte[] verifyNewInstance(Blackhole blackhole) throws Exception {
+		blackhole.consume(MessageDigest.getInstance("SHA-256").digest(claim));
+		Cipher cipher = Cipher.getInstance("RSA");
+		cipher.init(Cipher.DECRYPT_MODE, keyPair.getPublic());
+		return cipher.doFinal(signature);
+	}
+
+	@Benchmark
+	public byte[] verifyPooled(Blackhole blackhole) throws Exception {
+		blackhole.consume(CryptoPool.digest("SHA-256").digest(claim));
+		Cipher cipher = CryptoPool.cipher("RSA");
+		cipher.init(Cipher.DECRYPT_MODE, keyPair.getPublic());
+		return cipher.doFinal(signature);
+	}
+}
@@ -0,0 +1,206 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.config.CryptoExecutor;
+import com.example.demo.config.RsaKeyGenerator;
+import com.example.demo.config.VerifyProperties;
+import com.example.demo.keyring.IssuerRegistry;
+import com.example.demo.keyring.KeyRing;
+import com.example.demo.model.Request;
+import com.example.demo.service.JwsService;
+import com.example.demo.util.ByteUtil;
+import com.example.demo.util.CanonicalJson;
+import com.example.demo.util.CryptoPool;
+import com.example.demo.util.JsonUtil;
+import org.bitcoinj.core.Base58;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 발행 / 검증 단계별 성능 측정
+ * claim 크기(claimFields)와 키 크기(keySize)는 파라미터로 바꿀 수 있음
+ * ex) ./gradlew jmh -PjmhIncludes=JwsPipelineBenchmark -PjmhParams="keySize=4096;claimFields=3,500"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwsPipelineBenchmark {
+
+	/**
+	 * claim 필드 수
+	 */
+	@Param({"3", "50"})
+	public int claimFields;
+
+	/**
+	 * RSA 키 크기
+	 */
+	@Param({"2048", "4096"})
+	public int keySize;
+
+	private CryptoExecutor cryptoExecutor;
+	private RsaKeyGenerator rsaKeyGenerator;
+	private JwsService jwsService;
+
+	private String claim;
+	private String publicKeyText;
+	private String privateKeyText;
+	private PrivateKey privateKey;
+	private byte[] claimBytes;
+	private byte[] hashData;
+	private byte[] headerBytes;
+	private byte[] claimHexData;
+	private byte[] hexBuffer = new byte[64];
+	private String payload;
+	private String signature;
+	private String reqMsg;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		VerifyProperties verifyProperties = VerifyProperties.getInstance();
+		cryptoExecutor = new CryptoExecutor(verifyProperties);
+		rsaKeyGenerator = new RsaKeyGenerator(verifyProperties);
+		jwsService = new JwsService(verifyProperties, rsaKeyGenerator, cryptoExecutor,
+				new IssuerRegistry(verifyProperties, new KeyRing(verifyProperties), rsaKeyGenerator));
+
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+		keyPairGenerator.initialize(keySize);
+		KeyPair keyPair = keyPairGenerator.genKeyPair();
+		publicKeyText = Base58.encode(keyPair.getPublic().getEncoded());
+		privateKeyText = Base58.encode(keyPair.getPrivate().getEncoded());
+		privateKey = keyPair.getPrivate();
+
+		JSONObject claimObject = new JSONObject();
+		claimObject.put("uniqueId", "1000");
+		claimObject.put("name", "test");
+		claimObject.put("num", "10");
+		for (int i = 3; i < claimFields; i++) {
+			claimObject.put("field" + i, "value-" + i);
+		}
+		claim = claimObject.toString();
+
+		claimBytes = ByteUtil.stringToBytes(new JSONObject(claim).toString());
+		hashData = MessageDigest.getInstance("SHA-256").digest(claimBytes);
+		headerBytes = ByteUtil.stringToBytes("JWS" + "SHA256");
+		claimHexData = ByteUtil.stringToBytes(ByteUtil.bytesToHex(hashData));
+		payload = Base58.encode(claimHexData);
+		signature = rsaKeyGenerator.encryptPrvRSA(payload, privateKey);
+		reqMsg = jwsService.createReqMsg(publicKeyText, privateKey, claim).toString();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		cryptoExecutor.destroy();
+	}
+
+	@Benchmark
+	public String claimJsonObject() {
+		return new JSONObject(claim).toString();
+	}
+
+	@Benchmark
+	public byte[] canonicalDigest() throws Exception {
+		return CanonicalJson.digest(claim, CryptoPool.digest("SHA-256"));
+	}
+
+	@Benchmark
+	public String sha256Hex() throws Exception {
+		return ByteUtil.bytesToHex(CryptoPool.digest("SHA-256").digest(claimBytes));
+	}
+
+	@Benchmark
+	public byte[] sha256HexBytes() throws Exception {
+		return ByteUtil.bytesToHex(CryptoPool.digest("SHA-256").digest(claimBytes), hexBuffer);
+	}
+
+	@Benchmark
+	public String base58EncodeHeader() {
+		return Base58.encode(headerBytes);
+	}
+
+	@Benchmark
+	public String base58EncodePayload() {
+		return Base58.encode(claimHexData);
+	}
+
+	@Benchmark
+	public byte[] base58DecodePayload() {
+		return Base58.decode(payload);
+	}
+
+	@Benchmark
+	public byte[] base58DecodePublicKey() {
+		return Base58.decode(publicKeyText);
+	}
+
+	@Benchmark
+	public byte[] base58DecodePrivateKey() {
+		return Base58.decode(privateKeyText);
+	}
+
+	@Benchmark
+	public String rsaEncryptPrivate() throws Exception {
+		return rsaKeyGenerator.encryptPrvRSA(payload, privateKey);
+	}
+
+	@Benchmark
+	public String rsaDecryptPublic() throws Exception {
+		return rsaKeyGenerator.decryptPubRSA(signature, publicKeyText);
+	}
+
+	@Benchmark
+	public String prettyString() {
+		return JsonUtil.toPrettyString(reqMsg);
+	}
+
+	@Benchmark
+	public String createReqMsg() throws Exception {
+		Request keyPair = Request.builder().publicKey(publicKeyText).privateKey(privateKeyText).build();
+		return JsonUtil.toPrettyString(jwsService.createReqMsg(keyPair, claim).toString());
+	}
+
+	/**
+	 * createReqMsg 와 같은 요청문을 JSONObject / 문자열 없이 스트림에 한 번에 씀 (응답 경로)
+	 */
+	@Benchmark
+	public int writeReqMsg() throws Exception {
+		Request keyPair = Request.builder().publicKey(publicKeyText).privateKey(privateKeyText).build();
+		ByteArrayOutputStream out = new ByteArrayOutputStream(2048);
+		jwsService.writeReqMsg(keyPair, claim, out, true);
+		return out.size();
+	}
+
+	@Benchmark
+	public int writeReqMsgCompact() throws Exception {
+		Request keyPair = Request.builder().publicKey(publicKeyText).privateKey(privateKeyText).build();
+		ByteArrayOutputStream out = new ByteArrayOutputStream(2048);
+		jwsService.writeReqMsg(keyPair, claim, out, false);
+		return out.size();
+	}
+
+	@Benchmark
+	public boolean verifyReqMsg() throws Exception {
+		return jwsService.verifyReqMsg(reqMsg);
+	}
+}
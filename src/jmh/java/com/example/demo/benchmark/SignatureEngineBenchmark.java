@@ -0,0 +1,60 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.signature.SignatureEngine;
+import com.example.demo.signature.SignatureEngines;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.KeyPair;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 엔진별 서명 / 검증 시간 비교
+ * ex) ./gradlew jmh -PjmhIncludes=SignatureEngineBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SignatureEngineBenchmark {
+
+	/**
+	 * 서명 알고리즘 (VerifyProperties.algorithm 설정값)
+	 */
+	@Param({"RSA", "SHA256withRSA", "SHA256withECDSA", "Ed25519"})
+	public String algorithm;
+
+	private SignatureEngine engine;
+	private KeyPair keyPair;
+	private byte[] signingInput;
+	private byte[] signature;
+
+	@Setup
+	public void setUp() throws Exception {
+		engine = SignatureEngines.forAlgorithm(algorithm);
+		keyPair = engine.generateKeyPair(2048);
+		signingInput = engine.signingInput(engine.getHeader(), "2bUsHmyxDLSRwkn6e5LpUpPDQsk4bzPVrvnh2n1fEbCGAAkpwREJBbHoNVzgYxVnCSWcMKwS3iA4Xrtro8QYQ53gk");
+		signature = engine.sign(signingInput, keyPair.getPrivate());
+	}
+
+	@Benchmark
+	public byte[] sign() throws Exception {
+		return engine.sign(signingInput, keyPair.getPrivate());
+	}
+
+	@Benchmark
+	public boolean verify() throws Exception {
+		return engine.verify(signingInput, signature, keyPair.getPublic());
+	}
+}
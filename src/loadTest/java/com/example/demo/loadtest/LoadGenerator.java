@@ -0,0 +1,146 @@
+package com.example.demo.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 부하 생성기, 지연은 마이크로초 단위로 HdrHistogram 에 기록
+ * - 포화 (closed loop) : 연결 수만큼의 스레드가 응답을 받자마자 다음 요청을 보내 최대 처리량을 측정
+ * - 개루프 (open loop) : 응답과 상관없이 정해진 간격(1 / rate)마다 요청을 보내고, 지연은 보냈어야 할 시각부터 측정
+ *   서버가 느려져 요청이 밀리면 밀린 시간까지 지연에 포함되므로 coordinated omission 으로 꼬리 지연이 가려지지 않음
+ * 준비(warmup) 구간에 보낸 요청은 기록하지 않음
+ */
+final class LoadGenerator {
+
+	private final int connections;
+	private final long warmupNanos;
+	private final long durationNanos;
+
+	LoadGenerator(int connections, long warmupNanos, long durationNanos) {
+		this.connections = connections;
+		this.warmupNanos = warmupNanos;
+		this.durationNanos = durationNanos;
+	}
+
+	/**
+	 * 포화 부하로 최대 처리량 측정
+	 * @param request 요청 한 건, 성공이면 true
+	 */
+	Result saturate(Callable<Boolean> request) throws InterruptedException {
+		Recorder recorder = new Recorder(3);
+		LongAdder errors = new LongAdder();
+		long start = System.nanoTime();
+		long measureFrom = start + warmupNanos;
+		long end = measureFrom + durationNanos;
+
+		ExecutorService workers = newWorkers();
+		for (int i = 0; i < connections; i++) {
+			workers.execute(() -> {
+				while (true) {
+					long sent = System.nanoTime();
+					if (sent >= end) {
+						return;
+					}
+					boolean ok = call(request);
+					if (sent >= measureFrom) {
+						recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sent));
+						if (!ok) {
+							errors.increment();
+						}
+					}
+				}
+			});
+		}
+		awaitTermination(workers);
+		return new Result(recorder.getIntervalHistogram(), errors.sum(), durationNanos);
+	}
+
+	/**
+	 * 고정 도착률 부하
+	 * @param request 요청 한 건, 성공이면 true
+	 * @param rate 초당 요청 수
+	 */
+	Result openLoop(Callable<Boolean> request, double rate) throws InterruptedException {
+		Recorder recorder = new Recorder(3);
+		LongAdder errors = new LongAdder();
+		double intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+		long start = System.nanoTime();
+		long measureFrom = start + warmupNanos;
+		long end = measureFrom + durationNanos;
+
+		ExecutorService workers = newWorkers();
+		for (long i = 0; ; i++) {
+			long intended = start + (long) (i * intervalNanos);
+			if (intended >= end) {
+				break;
+			}
+			for (long now = System.nanoTime(); now < intended; now = System.nanoTime()) {
+				LockSupport.parkNanos(intended - now);
+			}
+			workers.execute(() -> {
+				boolean ok = call(request);
+				if (intended >= measureFrom) {
+					recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intended));
+					if (!ok) {
+						errors.increment();
+					}
+				}
+			});
+		}
+		awaitTermination(workers);
+		// 밀린 요청이 끝날 때까지 기다렸으므로 처리량은 마지막 응답 시각까지로 계산
+		return new Result(recorder.getIntervalHistogram(), errors.sum(), System.nanoTime() - measureFrom);
+	}
+
+	private ExecutorService newWorkers() {
+		AtomicInteger count = new AtomicInteger();
+		return Executors.newFixedThreadPool(connections, runnable -> {
+			Thread thread = new Thread(runnable, "load-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	private static boolean call(Callable<Boolean> request) {
+		try {
+			return request.call();
+		} catch (Exception e) {
+			return false;
+		}
+	}
+
+	private static void awaitTermination(ExecutorService workers) throws InterruptedException {
+		workers.shutdown();
+		if (!workers.awaitTermination(10, TimeUnit.MINUTES)) {
+			workers.shutdownNow();
+			throw new IllegalStateException("요청이 10분 안에 끝나지 않았습니다.");
+		}
+	}
+
+	/**
+	 * 측정 구간의 지연 분포 (마이크로초), 오류 수, 처리량
+	 */
+	static final class Result {
+		final Histogram histogram;
+		final long errors;
+		final long elapsedNanos;
+
+		private Result(Histogram histogram, long errors, long elapsedNanos) {
+			this.histogram = histogram;
+			this.errors = errors;
+			this.elapsedNanos = elapsedNanos;
+		}
+
+		double throughput() {
+			return histogram.getTotalCount() / (elapsedNanos / 1e9);
+		}
+	}
+}
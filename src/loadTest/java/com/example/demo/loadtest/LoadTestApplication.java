@@ -0,0 +1,279 @@
+package com.example.demo.loadtest;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.controller.JwsRestController;
+import com.example.demo.util.JsonUtil;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * REST 엔드포인트 부하 테스트 (createKeyPair, createReqMsg, verifyReqMsg)
+ * 키 크기마다 애플리케이션을 임의 포트로 띄우고 실제 HTTP 로 요청하여 처리량과 지연 분포를 측정, 외부 서비스는 필요 없음
+ * 시나리오(엔드포인트 x 키 크기 x claim 크기)마다
+ *  1. 포화 : 연결 수만큼 쉬지 않고 요청하여 최대 처리량 측정
+ *  2. 개루프 : 최대 처리량의 loads 비율 (또는 고정 rate) 로 정해진 시각에 요청, 지연은 보냈어야 할 시각부터 측정
+ * 결과는 표 (처리량, p50 / p99 / p999 / 최대 지연) 를 report.txt 와 stdout 에, 지연 분포를 시나리오별 .hgrm 에 씀
+ * 검증 결과 캐시는 기본으로 끄고 (verifyCache.maximumSize=0) 매번 서명을 검증, 그 밖의 --이름=값 은 애플리케이션 설정으로 전달
+ *
+ * 사용법: LoadTestApplication [--keySizes=2048,4096] [--claimSizes=256,4096] [--endpoints=createKeyPair,createReqMsg,verifyReqMsg]
+ *        [--loads=0.5,0.8] [--rate=초당 요청 수] [--duration=초] [--warmup=초] [--connections=N] [--out=결과 디렉터리]
+ *
+ * 가상 스레드 모드(threads.virtual) 시나리오: JDK 21 에서 열린 연결이 수천 개일 때 p99 가 평평하게 유지되는지 같은 연결 수로
+ * 설정을 끈 실행과 비교 (검증 결과 캐시는 위와 같이 꺼진 상태, --out 으로 결과를 나눠 저장)
+ *   ./gradlew loadTest --args="--threads.virtual=true --connections=2000 --endpoints=createReqMsg,verifyReqMsg --out=build/reports/loadtest/virtual"
+ *   ./gradlew loadTest --args="--threads.virtual=false --connections=2000 --endpoints=createReqMsg,verifyReqMsg --out=build/reports/loadtest/platform"
+ */
+public class LoadTestApplication {
+
+	private static final String CREATE_KEY_PAIR = "createKeyPair";
+	private static final String CREATE_REQ_MSG = "createReqMsg";
+	private static final String VERIFY_REQ_MSG = "verifyReqMsg";
+
+	private static final String ROW_FORMAT = "%-14s %7s %9s %-10s %10s %10s %9s %9s %9s %9s %7s%n";
+
+	public static void main(String[] args) throws Exception {
+		List<Integer> keySizes = Arrays.asList(2048, 4096);
+		List<Integer> claimSizes = Arrays.asList(256, 4096);
+		List<String> endpoints = Arrays.asList(CREATE_KEY_PAIR, CREATE_REQ_MSG, VERIFY_REQ_MSG);
+		List<Double> loads = Arrays.asList(0.5, 0.8);
+		double rate = 0;
+		long duration = 30;
+		long warmup = 10;
+		int connections = 2 * Runtime.getRuntime().availableProcessors();
+		Path out = Paths.get("build", "reports", "loadtest");
+		Map<String, Object> properties = new LinkedHashMap<>();
+		properties.put("verifyCache.maximumSize", 0);
+		for (String arg : args) {
+			String[] pair = arg.replaceFirst("^--", "").split("=", 2);
+			String value = pair.length > 1 ? pair[1] : "";
+			switch (pair[0]) {
+				case "keySizes":
+					keySizes = Stream.of(value.split(",")).map(Integer::valueOf).collect(Collectors.toList());
+					break;
+				case "claimSizes":
+					claimSizes = Stream.of(value.split(",")).map(Integer::valueOf).collect(Collectors.toList());
+					break;
+				case "endpoints":
+					endpoints = Arrays.asList(value.split(","));
+					break;
+				case "loads":
+					loads = Stream.of(value.split(",")).map(Double::valueOf).collect(Collectors.toList());
+					break;
+				case "rate":
+					rate = Double.parseDouble(value);
+					break;
+				case "duration":
+					duration = Long.parseLong(value);
+					break;
+				case "warmup":
+					warmup = Long.parseLong(value);
+					break;
+				case "connections":
+					connections = Integer.parseInt(value);
+					break;
+				case "out":
+					out = Paths.get(value);
+					break;
+				default:
+					properties.put(pair[0], value);
+					break;
+			}
+		}
+
+		// 개발 도구의 재시작 클래스로더를 쓰지 않고 같은 프로세스에서 바로 띄움
+		System.setProperty("spring.devtools.restart.enabled", "false");
+		// keep-alive 로 재사용하는 연결 수 (기본 5) 를 부하 연결 수에 맞춤
+		System.setProperty("http.maxConnections", Integer.toString(connections));
+		Files.createDirectories(out);
+		LoadGenerator generator = new LoadGenerator(connections,
+				TimeUnit.SECONDS.toNanos(warmup), TimeUnit.SECONDS.toNanos(duration));
+
+		try (PrintStream report = new PrintStream(Files.newOutputStream(out.resolve("report.txt")), true, "UTF-8")) {
+			String header = String.format("부하 테스트: 연결 %d, 준비 %d 초, 측정 %d 초, %s, CPU %d%n", connections, warmup,
+					duration, rate > 0 ? "고정 " + rate + " 요청/초" : "최대 처리량의 " + loads,
+					Runtime.getRuntime().availableProcessors())
+					+ String.format(ROW_FORMAT, "endpoint", "keySize", "claimSize", "mode", "target/s", "achieved/s",
+					"p50 ms", "p99 ms", "p999 ms", "max ms", "errors");
+			print(report, header);
+
+			for (int keySize : keySizes) {
+				Path keyPath = Files.createTempDirectory("loadtest-keys");
+				Map<String, Object> appProperties = new LinkedHashMap<>(properties);
+				appProperties.put("server.port", 0);
+				appProperties.put("keyPair.path", keyPath.toString() + File.separator);
+				appProperties.put("keyPair.keySize", keySize);
+				appProperties.putIfAbsent("logging.level.root", "WARN");
+				ConfigurableApplicationContext context = new SpringApplicationBuilder(DemoApplication.class)
+						.properties(appProperties)
+						.run();
+				try {
+					int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+					String baseUrl = "http://localhost:" + port;
+					Map<String, Object> keyPair = JsonUtil.readValueMap(new String(
+							request("GET", baseUrl + "/createKeyPair", null, null), StandardCharsets.UTF_8));
+					String createUrl = baseUrl + "/createReqMsg?publicKey="
+							+ URLEncoder.encode((String) keyPair.get("publicKey"), "UTF-8")
+							+ "&privateKey=" + URLEncoder.encode((String) keyPair.get("privateKey"), "UTF-8");
+
+					for (String endpoint : endpoints) {
+						if (CREATE_KEY_PAIR.equals(endpoint)) {
+							Callable<Boolean> call = () -> ok(request("GET", baseUrl + "/createKeyPair", null, null));
+							run(report, out, generator, call, endpoint, keySize, "-", loads, rate);
+							continue;
+						}
+						for (int claimSize : claimSizes) {
+							byte[] claim = claim(claimSize);
+							Callable<Boolean> call;
+							if (CREATE_REQ_MSG.equals(endpoint)) {
+								call = () -> ok(request("POST", createUrl, claim, JwsRestController.JSON_FORMAT_COMPACT));
+							} else if (VERIFY_REQ_MSG.equals(endpoint)) {
+								byte[] reqMsg = request("POST", createUrl, claim, JwsRestController.JSON_FORMAT_COMPACT);
+								call = () -> ok(request("POST", baseUrl + "/verifyReqMsg", reqMsg, null));
+							} else {
+								throw new IllegalArgumentException("알 수 없는 엔드포인트입니다: " + endpoint);
+							}
+							run(report, out, generator, call, endpoint, keySize, Integer.toString(claimSize), loads, rate);
+						}
+					}
+				} finally {
+					context.close();
+					delete(keyPath);
+				}
+			}
+		}
+		System.out.println("결과: " + out.toAbsolutePath());
+	}
+
+	/**
+	 * 시나리오 하나를 포화 후 개루프로 측정하여 표에 한 줄씩 쓰고, 지연 분포를 .hgrm 으로 저장
+	 */
+	private static void run(PrintStream report, Path out, LoadGenerator generator, Callable<Boolean> call,
+			String endpoint, int keySize, String claimSize, List<Double> loads, double rate) throws Exception {
+		String name = endpoint + "-" + keySize + ("-".equals(claimSize) ? "" : "-" + claimSize);
+		LoadGenerator.Result saturated = generator.saturate(call);
+		print(report, row(endpoint, keySize, claimSize, "saturate", "-", saturated));
+		writeHistogram(out.resolve(name + "-saturate.hgrm"), saturated);
+
+		List<Double> rates = new ArrayList<>();
+		if (rate > 0) {
+			rates.add(rate);
+		} else {
+			for (double load : loads) {
+				rates.add(saturated.throughput() * load);
+			}
+		}
+		for (int i = 0; i < rates.size(); i++) {
+			double target = rates.get(i);
+			String mode = rate > 0 ? "open" : String.format("open %.0f%%", loads.get(i) * 100);
+			LoadGenerator.Result result = generator.openLoop(call, target);
+			print(report, row(endpoint, keySize, claimSize, mode, String.format("%.1f", target), result));
+			writeHistogram(out.resolve(name + "-" + mode.replaceAll("[ %]", "") + ".hgrm"), result);
+		}
+	}
+
+	private static String row(String endpoint, int keySize, String claimSize, String mode, String target,
+			LoadGenerator.Result result) {
+		return String.format(ROW_FORMAT, endpoint, keySize, claimSize, mode, target,
+				String.format("%.1f", result.throughput()),
+				millis(result.histogram.getValueAtPercentile(50)),
+				millis(result.histogram.getValueAtPercentile(99)),
+				millis(result.histogram.getValueAtPercentile(99.9)),
+				millis(result.histogram.getMaxValue()),
+				result.errors);
+	}
+
+	private static String millis(long micros) {
+		return String.format("%.2f", micros / 1000.0);
+	}
+
+	private static void print(PrintStream report, String text) {
+		report.print(text);
+		System.out.print(text);
+	}
+
+	private static void writeHistogram(Path path, LoadGenerator.Result result) throws IOException {
+		try (PrintStream stream = new PrintStream(Files.newOutputStream(path), false, "UTF-8")) {
+			result.histogram.outputPercentileDistribution(stream, 1000.0);
+		}
+	}
+
+	/**
+	 * 대략 size 바이트의 claim, 32자 값을 가진 필드를 채워 크기를 맞춤
+	 */
+	static byte[] claim(int size) {
+		StringBuilder claim = new StringBuilder("{\"uniqueId\":\"1000\",\"name\":\"test\"");
+		char[] value = new char[32];
+		for (int i = 0; claim.length() + 1 < size; i++) {
+			Arrays.fill(value, (char) ('a' + i % 26));
+			claim.append(",\"field").append(i).append("\":\"").append(value).append('"');
+		}
+		return claim.append('}').toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static boolean ok(byte[] response) {
+		return response != null;
+	}
+
+	/**
+	 * 요청을 보내고 응답 본문을 끝까지 읽어 HttpURLConnection 이 keep-alive 로 연결을 재사용하도록 함
+	 * @return 2xx 응답 본문, 그 밖의 상태면 null
+	 */
+	private static byte[] request(String method, String url, byte[] body, String jsonFormat) throws IOException {
+		HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+		connection.setRequestMethod(method);
+		if (jsonFormat != null) {
+			connection.setRequestProperty(JwsRestController.JSON_FORMAT_HEADER, jsonFormat);
+		}
+		if (body != null) {
+			connection.setDoOutput(true);
+			connection.setRequestProperty("Content-Type", "application/json");
+			connection.setFixedLengthStreamingMode(body.length);
+			try (OutputStream out = connection.getOutputStream()) {
+				out.write(body);
+			}
+		}
+		int status = connection.getResponseCode();
+		InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+		ByteArrayOutputStream response = new ByteArrayOutputStream();
+		if (in != null) {
+			try (InputStream stream = in) {
+				byte[] buffer = new byte[8192];
+				for (int read; (read = stream.read(buffer)) >= 0; ) {
+					response.write(buffer, 0, read);
+				}
+			}
+		}
+		return status / 100 == 2 ? response.toByteArray() : null;
+	}
+
+	private static void delete(Path path) throws IOException {
+		try (Stream<Path> paths = Files.walk(path)) {
+			paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+	}
+}
@@ -0,0 +1,111 @@
+package com.example.demo;
+
+import com.example.demo.config.CryptoExecutor;
+import com.example.demo.config.RsaKeyGenerator;
+import com.example.demo.config.VerifyProperties;
+import com.example.demo.keyring.IssuerRegistry;
+import com.example.demo.keyring.KeyRing;
+import com.example.demo.model.Request;
+import com.example.demo.service.JwsService;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.PrivateKey;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+/**
+ * CSV 일괄 발행 (오프라인)
+ * 첫 줄을 헤더로 하는 CSV 의 각 행을 credentialSubject 로 코어 수만큼 병렬 서명하여 읽는 대로 NDJSON 또는 CSV 로 씀
+ * createReqMsg/batch (text/csv) 와 같은 형식이며, 파일 크기와 상관없이 메모리를 일정하게 유지
+ * 키를 지정하지 않으면 서버 키(keyPair.path)로 서명, --kid 를 지정하면 요청문에 공개키 대신 kid 를 담음
+ * Spring 웹 컨텍스트를 띄우지 않고 JwsService 를 직접 생성
+ *
+ * 사용법: BulkIssueApplication [--threads=N] [--format=ndjson|csv] [--publicKey=공개키|--kid=kid] [--privateKey=개인키] [--out=출력 파일] 입력 파일
+ * --out 이 없으면 stdout 으로 씀
+ */
+@Slf4j
+public class BulkIssueApplication {
+
+	private static final String USAGE = "사용법: BulkIssueApplication [--threads=N] [--format=ndjson|csv] "
+			+ "[--publicKey=공개키|--kid=kid] [--privateKey=개인키] [--out=출력 파일] 입력 파일";
+
+	private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+	public static void main(String[] args) throws Exception {
+		VerifyProperties verifyProperties = VerifyProperties.getInstance();
+		Request keyPair = new Request();
+		String format = "ndjson";
+		String outPath = null;
+		String inPath = null;
+		for (String arg : args) {
+			if (arg.startsWith("--threads=")) {
+				verifyProperties.setCryptoParallelism(Integer.parseInt(arg.substring("--threads=".length())));
+			} else if (arg.startsWith("--format=")) {
+				format = arg.substring("--format=".length());
+			} else if (arg.startsWith("--publicKey=")) {
+				keyPair.setPublicKey(arg.substring("--publicKey=".length()));
+			} else if (arg.startsWith("--kid=")) {
+				keyPair.setKid(arg.substring("--kid=".length()));
+			} else if (arg.startsWith("--privateKey=")) {
+				keyPair.setPrivateKey(arg.substring("--privateKey=".length()));
+			} else if (arg.startsWith("--out=")) {
+				outPath = arg.substring("--out=".length());
+			} else {
+				inPath = arg;
+			}
+		}
+		boolean csv = "csv".equalsIgnoreCase(format);
+		if (inPath == null || (!csv && !"ndjson".equalsIgnoreCase(format))) {
+			System.err.println(USAGE);
+			System.exit(2);
+		}
+
+		CryptoExecutor cryptoExecutor = new CryptoExecutor(verifyProperties);
+		RsaKeyGenerator rsaKeyGenerator = new RsaKeyGenerator(verifyProperties);
+		JwsService jwsService = new JwsService(verifyProperties, rsaKeyGenerator, cryptoExecutor,
+				new IssuerRegistry(verifyProperties, new KeyRing(verifyProperties), rsaKeyGenerator));
+		long started = System.nanoTime();
+		ProgressReporter progress = new ProgressReporter(started);
+		long written;
+		try (InputStream in = new BufferedInputStream(new FileInputStream(inPath));
+			 OutputStream out = new BufferedOutputStream(outPath != null ? new FileOutputStream(outPath) : System.out)) {
+			PrivateKey privateKey = jwsService.resolvePrivateKey(keyPair);
+			written = jwsService.createReqMsgCsv(keyPair, privateKey, in, out, csv, progress);
+		} finally {
+			cryptoExecutor.destroy();
+		}
+		long elapsed = System.nanoTime() - started;
+		System.err.printf("%n발행 %d 건, %.1f 초 (%.1f 건/초)%s%n", written, elapsed / 1e9,
+				written / Math.max(elapsed / 1e9, 1e-9), outPath != null ? ", 출력: " + outPath : "");
+	}
+
+	/**
+	 * 1초마다 발행 건수와 처리율을 stderr 에 한 줄로 덮어씀 (입력 행 수는 미리 알 수 없음)
+	 */
+	private static final class ProgressReporter implements LongConsumer {
+		private final long started;
+		private long reported;
+
+		private ProgressReporter(long started) {
+			this.started = started;
+			this.reported = started;
+		}
+
+		@Override
+		public void accept(long written) {
+			long now = System.nanoTime();
+			if (now - reported < PROGRESS_INTERVAL_NANOS) {
+				return;
+			}
+			reported = now;
+			double seconds = (now - started) / 1e9;
+			System.err.printf("\r%d 건, %.1f 건/초", written, written / Math.max(seconds, 1e-9));
+		}
+	}
+}
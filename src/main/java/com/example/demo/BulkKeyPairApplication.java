@@ -0,0 +1,120 @@
+package com.example.demo;
+
+import com.example.demo.config.CryptoExecutor;
+import com.example.demo.config.RsaKeyGenerator;
+import com.example.demo.config.VerifyProperties;
+import com.example.demo.keyring.IssuerRegistry;
+import com.example.demo.keyring.KeyRing;
+import com.example.demo.service.JwsService;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+/**
+ * 키 페어 일괄 생성 (오프라인)
+ * 코어 수만큼 병렬로 생성하여 생성되는 대로 NDJSON 으로 씀 (createKeyPair/bulk 와 같은 형식)
+ * 진행 상황은 1초마다 stderr 에 출력하고, Ctrl+C 로 중단하면 그때까지 생성된 키 페어는 파일에 남김
+ * Spring 웹 컨텍스트를 띄우지 않고 JwsService 를 직접 생성
+ *
+ * 사용법: BulkKeyPairApplication [--threads=N] [--algorithm=서명 알고리즘] [--keySize=N] [--out=출력 파일] 개수
+ * --out 이 없으면 stdout 으로 씀
+ */
+@Slf4j
+public class BulkKeyPairApplication {
+
+	private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+	public static void main(String[] args) throws Exception {
+		VerifyProperties verifyProperties = VerifyProperties.getInstance();
+		String outPath = null;
+		long count = -1;
+		for (String arg : args) {
+			if (arg.startsWith("--threads=")) {
+				verifyProperties.setCryptoParallelism(Integer.parseInt(arg.substring("--threads=".length())));
+			} else if (arg.startsWith("--algorithm=")) {
+				verifyProperties.setAlgorithm(arg.substring("--algorithm=".length()));
+			} else if (arg.startsWith("--keySize=")) {
+				verifyProperties.setKeySize(Integer.parseInt(arg.substring("--keySize=".length())));
+			} else if (arg.startsWith("--out=")) {
+				outPath = arg.substring("--out=".length());
+			} else {
+				count = Long.parseLong(arg);
+			}
+		}
+		if (count < 1) {
+			System.err.println("사용법: BulkKeyPairApplication [--threads=N] [--algorithm=서명 알고리즘] [--keySize=N] [--out=출력 파일] 개수");
+			System.exit(2);
+		}
+
+		// Ctrl+C 시 생성을 멈추고 쓴 데까지 파일을 닫은 뒤 종료
+		Thread main = Thread.currentThread();
+		Thread shutdownHook = new Thread(() -> {
+			main.interrupt();
+			try {
+				main.join(TimeUnit.SECONDS.toMillis(10));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}, "bulk-key-pair-shutdown");
+		Runtime.getRuntime().addShutdownHook(shutdownHook);
+
+		CryptoExecutor cryptoExecutor = new CryptoExecutor(verifyProperties);
+		RsaKeyGenerator rsaKeyGenerator = new RsaKeyGenerator(verifyProperties);
+		JwsService jwsService = new JwsService(verifyProperties, rsaKeyGenerator, cryptoExecutor,
+				new IssuerRegistry(verifyProperties, new KeyRing(verifyProperties), rsaKeyGenerator));
+		long total = count;
+		long started = System.nanoTime();
+		long written = 0;
+		ProgressReporter progress = new ProgressReporter(total, started);
+		try (OutputStream out = new BufferedOutputStream(outPath != null ? new FileOutputStream(outPath) : System.out)) {
+			written = jwsService.createKeyPairBulk(total, out, progress);
+		} catch (InterruptedIOException e) {
+			written = progress.written;
+			System.err.printf("%n중단되었습니다. %d / %d 건을 썼습니다.%n", written, total);
+		} finally {
+			cryptoExecutor.destroy();
+		}
+		long elapsed = System.nanoTime() - started;
+		System.err.printf("%n키 페어 %d 건, %.1f 초 (%.1f 건/초)%s%n", written, elapsed / 1e9,
+				written / Math.max(elapsed / 1e9, 1e-9), outPath != null ? ", 출력: " + outPath : "");
+		if (written == total) {
+			Runtime.getRuntime().removeShutdownHook(shutdownHook);
+		}
+	}
+
+	/**
+	 * 1초마다 진행률과 남은 시간을 stderr 에 한 줄로 덮어씀
+	 */
+	private static final class ProgressReporter implements LongConsumer {
+		private final long total;
+		private final long started;
+		private long reported;
+		private volatile long written;
+
+		private ProgressReporter(long total, long started) {
+			this.total = total;
+			this.started = started;
+			this.reported = started;
+		}
+
+		@Override
+		public void accept(long written) {
+			this.written = written;
+			long now = System.nanoTime();
+			if (now - reported < PROGRESS_INTERVAL_NANOS && written < total) {
+				return;
+			}
+			reported = now;
+			double seconds = (now - started) / 1e9;
+			double rate = written / Math.max(seconds, 1e-9);
+			System.err.printf("\r%d / %d (%.1f%%), %.1f 건/초, 남은 시간 %.0f 초", written, total,
+					written * 100.0 / total, rate, (total - written) / Math.max(rate, 1e-9));
+		}
+	}
+}
@@ -0,0 +1,200 @@
+package com.example.demo;
+
+import com.example.demo.config.CryptoExecutor;
+import com.example.demo.config.RsaKeyGenerator;
+import com.example.demo.config.VerifyProperties;
+import com.example.demo.keyring.IssuerRegistry;
+import com.example.demo.keyring.KeyRing;
+import com.example.demo.model.VerifyResult;
+import com.example.demo.service.JwsService;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청문 일괄 검증 (오프라인)
+ * 보관된 NDJSON 요청문 파일을 메모리 매핑하여 줄 경계로 나누고, 코어 수만큼 병렬로 검증하여 실패 건만 리포트로 씀
+ * Spring 웹 컨텍스트를 띄우지 않고 JwsService 를 직접 생성하여 verifyReqMsg 와 같은 로직으로 검증
+ *
+ * 사용법: BulkVerifyApplication [--threads=N] [--report=리포트 파일] 입력 파일...
+ * 리포트는 실패 건마다 "파일 경로 \t 바이트 오프셋 \t 사유 코드" 한 줄
+ */
+@Slf4j
+public class BulkVerifyApplication {
+
+	/**
+	 * 한 번에 매핑하는 파일 크기
+	 */
+	private static final long CHUNK_SIZE = 64L * 1024 * 1024;
+
+	private static final String DEFAULT_REPORT = "verify-failures.tsv";
+
+	protected final JwsService jwsService;
+	protected final CryptoExecutor cryptoExecutor;
+	protected final Writer report;
+
+	private final LongAdder total = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+
+	public BulkVerifyApplication(JwsService jwsService, CryptoExecutor cryptoExecutor, Writer report) {
+		this.jwsService = jwsService;
+		this.cryptoExecutor = cryptoExecutor;
+		this.report = report;
+	}
+
+	public static void main(String[] args) throws Exception {
+		VerifyProperties verifyProperties = VerifyProperties.getInstance();
+		Path reportPath = Paths.get(DEFAULT_REPORT);
+		List<Path> inputs = new ArrayList<>();
+		for (String arg : args) {
+			if (arg.startsWith("--threads=")) {
+				verifyProperties.setCryptoParallelism(Integer.parseInt(arg.substring("--threads=".length())));
+			} else if (arg.startsWith("--report=")) {
+				reportPath = Paths.get(arg.substring("--report=".length()));
+			} else {
+				inputs.add(Paths.get(arg));
+			}
+		}
+		if (inputs.isEmpty()) {
+			System.err.println("사용법: BulkVerifyApplication [--threads=N] [--report=리포트 파일] 입력 파일...");
+			System.exit(2);
+		}
+
+		CryptoExecutor cryptoExecutor = new CryptoExecutor(verifyProperties);
+		RsaKeyGenerator rsaKeyGenerator = new RsaKeyGenerator(verifyProperties);
+		JwsService jwsService = new JwsService(verifyProperties, rsaKeyGenerator, cryptoExecutor,
+				new IssuerRegistry(verifyProperties, new KeyRing(verifyProperties), rsaKeyGenerator));
+		long failures;
+		try (BufferedWriter report = Files.newBufferedWriter(reportPath, StandardCharsets.UTF_8)) {
+			BulkVerifyApplication application = new BulkVerifyApplication(jwsService, cryptoExecutor, report);
+			long started = System.nanoTime();
+			for (Path input : inputs) {
+				application.verifyFile(input);
+			}
+			long elapsed = System.nanoTime() - started;
+			failures = application.failed.sum();
+			long count = application.total.sum();
+			System.out.printf("검증 %d 건, 실패 %d 건, %.1f 초 (%.0f 건/초), 리포트: %s%n", count, failures,
+					elapsed / 1e9, count / Math.max(elapsed / 1e9, 1e-9), reportPath.toAbsolutePath());
+		} finally {
+			cryptoExecutor.destroy();
+		}
+		System.exit(failures == 0 ? 0 : 1);
+	}
+
+	/**
+	 * 파일 하나를 CHUNK_SIZE 단위로 매핑하여 검증, 각 조각은 마지막 줄바꿈에서 끊어 줄이 나뉘지 않도록 함
+	 */
+	public void verifyFile(Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			long size = channel.size();
+			long position = 0;
+			while (position < size) {
+				long length = Math.min(CHUNK_SIZE, size - position);
+				MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+				int end = (int) length;
+				if (position + length < size) {
+					while (end > 0 && chunk.get(end - 1) != '\n') {
+						end--;
+					}
+					if (end == 0) {
+						throw new IOException(String.format("%s: offset %d 의 요청문이 %d 바이트보다 깁니다.",
+								file, position, CHUNK_SIZE));
+					}
+				}
+				verifyChunk(file, chunk, position, end);
+				position += end;
+			}
+		}
+	}
+
+	/**
+	 * 매핑된 조각을 스레드 수만큼 줄 경계에서 나누어 병렬 검증
+	 */
+	private void verifyChunk(Path file, MappedByteBuffer chunk, long base, int end) throws IOException {
+		int parallelism = cryptoExecutor.getParallelism();
+		int sliceSize = Math.max(1, end / parallelism);
+		List<Callable<Void>> slices = new ArrayList<>(parallelism + 1);
+		int start = 0;
+		while (start < end) {
+			int sliceEnd = Math.min(end, start + sliceSize);
+			while (sliceEnd < end && chunk.get(sliceEnd - 1) != '\n') {
+				sliceEnd++;
+			}
+			int sliceStart = start;
+			int sliceLimit = sliceEnd;
+			slices.add(() -> {
+				verifySlice(file, chunk.duplicate(), base, sliceStart, sliceLimit);
+				return null;
+			});
+			start = sliceEnd;
+		}
+
+		try {
+			for (Future<Void> future : cryptoExecutor.getExecutorService().invokeAll(slices)) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("검증이 중단되었습니다.", e);
+		} catch (ExecutionException e) {
+			throw new IOException(file + " 검증 중 오류가 발생하였습니다.", e.getCause());
+		}
+	}
+
+	private void verifySlice(Path file, ByteBuffer slice, long base, int start, int end) throws IOException {
+		byte[] line = new byte[4096];
+		int lineStart = start;
+		for (int i = start; i <= end; i++) {
+			if (i < end && slice.get(i) != '\n') {
+				continue;
+			}
+			int lineEnd = i;
+			if (lineEnd > lineStart && slice.get(lineEnd - 1) == '\r') {
+				lineEnd--;
+			}
+			int length = lineEnd - lineStart;
+			if (length > 0) {
+				if (line.length < length) {
+					line = new byte[Math.max(length, line.length * 2)];
+				}
+				slice.position(lineStart);
+				slice.get(line, 0, length);
+				VerifyResult result = jwsService.verifyReqMsg(0, new String(line, 0, length, StandardCharsets.UTF_8));
+				total.increment();
+				if (!result.isValid()) {
+					failed.increment();
+					writeFailure(file, base + lineStart, result);
+				}
+			}
+			lineStart = i + 1;
+		}
+	}
+
+	private void writeFailure(Path file, long offset, VerifyResult result) throws IOException {
+		synchronized (report) {
+			report.write(file.toString());
+			report.write('\t');
+			report.write(Long.toString(offset));
+			report.write('\t');
+			report.write(result.getReason().name());
+			report.write('\n');
+		}
+	}
+}
@@ -1,12 +1,19 @@
 package com.example.demo;
 
+import com.example.demo.config.CryptoExecutor;
+import com.example.demo.config.KeyPairPool;
+import com.example.demo.config.RsaKeyGenerator;
 import com.example.demo.config.VerifyProperties;
+import com.example.demo.keyring.IssuerRegistry;
+import com.example.demo.keyring.KeyRing;
+import com.example.demo.service.JwsService;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Import;
 
 @SpringBootApplication
-@Import(VerifyProperties.class)
+@Import({VerifyProperties.class, RsaKeyGenerator.class, KeyPairPool.class, CryptoExecutor.class, KeyRing.class,
+		IssuerRegistry.class, JwsService.class})
 public class DemoApplication {
 
 	public static void main(String[] args) {
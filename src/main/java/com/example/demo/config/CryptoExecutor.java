@@ -0,0 +1,75 @@
+package com.example.demo.config;
+
+import com.example.demo.util.VirtualThreads;
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 서명 / 검증 같은 CPU 연산을 처리하는 스레드 풀
+ * 코어 수만큼만 스레드를 두어 일괄 처리 요청이 많아도 CPU 를 넘치게 점유하지 않도록 함
+ */
+@Slf4j
+@Getter
+@Component
+public class CryptoExecutor implements DisposableBean {
+
+	/**
+	 * 병렬 처리 스레드 수
+	 */
+	protected final int parallelism;
+
+	protected final ExecutorService executorService;
+
+	public CryptoExecutor(VerifyProperties verifyProperties) {
+		this.parallelism = verifyProperties.cryptoParallelism > 0
+				? verifyProperties.cryptoParallelism : Runtime.getRuntime().availableProcessors();
+		this.executorService = Executors.newFixedThreadPool(parallelism,
+				new ThreadFactoryBuilder().setNameFormat("crypto-%d").setDaemon(true).build());
+		log.info("암호 연산 스레드 풀을 생성하였습니다. (parallelism: {})", parallelism);
+	}
+
+	/**
+	 * 암호 연산 실행, 가상 스레드에서 호출되면 이 풀에 넘겨 실행하고 끝날 때까지 대기 (플랫폼 스레드는 그대로 실행)
+	 * 가상 스레드는 요청마다 새로 만들어지므로 스레드별로 재사용하는 Cipher, MessageDigest, 버퍼 (CryptoPool, ByteUtil 등) 가
+	 * 매번 다시 만들어짐, 풀 스레드에서 실행하여 재사용하고 동시 실행 수도 parallelism 개로 제한
+	 * <pre>
+	 * boolean verified = cryptoExecutor.call(() -> verify(reqMsg));
+	 * </pre>
+	 * @param task 암호 연산
+	 * @return task 의 결과
+	 * @throws Exception task 가 던진 예외를 그대로 다시 던짐, 대기 중 인터럽트되면 InterruptedIOException
+	 */
+	public <T> T call(Callable<T> task) throws Exception {
+		if (!VirtualThreads.isVirtual(Thread.currentThread())) {
+			return task.call();
+		}
+		Future<T> future = executorService.submit(task);
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("암호 연산이 중단되었습니다.");
+		} catch (ExecutionException e) {
+			Throwables.throwIfInstanceOf(e.getCause(), Exception.class);
+			Throwables.throwIfUnchecked(e.getCause());
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	@Override
+	public void destroy() {
+		executorService.shutdownNow();
+	}
+}
@@ -0,0 +1,136 @@
+package com.example.demo.config;
+
+import com.example.demo.signature.SignatureEngine;
+import com.example.demo.util.JwsMetrics;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+import java.security.KeyPair;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 미리 만들어 둔 키 페어 풀
+ * RSA 키 생성은 소수 탐색 때문에 수십 ~ 수백 ms 로 편차가 크므로, 낮은 우선순위 스레드가 depth 개까지 채워 두고
+ * createKeyPair 는 풀에서 꺼내 바로 응답, 풀이 비어 있으면 그 자리에서 생성 (가상 스레드면 CryptoExecutor 의 풀에서)
+ * keyPairPool.depth 가 0 이면 풀을 쓰지 않고 항상 바로 생성
+ */
+@Slf4j
+@Component
+public class KeyPairPool implements InitializingBean, DisposableBean {
+
+	protected final VerifyProperties verifyProperties;
+	protected final SignatureEngine signatureEngine;
+	protected final CryptoExecutor cryptoExecutor;
+
+	/**
+	 * 생성된 키 페어, depth 가 0 이면 null
+	 */
+	private final BlockingQueue<KeyPair> keyPairs;
+
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong starvationCount = new AtomicLong();
+
+	private ExecutorService refillExecutor;
+
+	public KeyPairPool(VerifyProperties verifyProperties, RsaKeyGenerator rsaKeyGenerator,
+			CryptoExecutor cryptoExecutor) {
+		this.verifyProperties = verifyProperties;
+		this.signatureEngine = rsaKeyGenerator.getSignatureEngine();
+		this.cryptoExecutor = cryptoExecutor;
+		this.keyPairs = verifyProperties.keyPairPoolDepth > 0
+				? new ArrayBlockingQueue<>(verifyProperties.keyPairPoolDepth) : null;
+		JwsMetrics.monitorKeyPairPool(this, KeyPairPool::size, KeyPairPool::getHitCount,
+				KeyPairPool::getStarvationCount);
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		if (keyPairs == null) {
+			return;
+		}
+		int threads = Math.max(1, verifyProperties.keyPairPoolRefillThreads);
+		refillExecutor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+				.setNameFormat("key-pair-refill-%d")
+				.setDaemon(true)
+				.setPriority(Thread.MIN_PRIORITY)
+				.build());
+		for (int i = 0; i < threads; i++) {
+			refillExecutor.execute(this::refill);
+		}
+		log.info("{} 키 페어 풀을 채웁니다. (depth: {}, refillThreads: {})", signatureEngine.getKeyAlgorithm(),
+				verifyProperties.keyPairPoolDepth, threads);
+	}
+
+	@Override
+	public void destroy() {
+		if (refillExecutor != null) {
+			refillExecutor.shutdownNow();
+		}
+	}
+
+	/**
+	 * 풀에서 키 페어를 꺼냄, 비어 있으면 바로 생성
+	 */
+	public KeyPair take() throws NoSuchAlgorithmException {
+		if (keyPairs != null) {
+			KeyPair keyPair = keyPairs.poll();
+			if (keyPair != null) {
+				hitCount.incrementAndGet();
+				return keyPair;
+			}
+			// 풀을 쓰지 않는 설정(depth 0)은 비어 있는 것이 아니므로 세지 않음
+			starvationCount.incrementAndGet();
+		}
+		try {
+			return cryptoExecutor.call(() -> signatureEngine.generateKeyPair(verifyProperties.keySize));
+		} catch (NoSuchAlgorithmException | RuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new IllegalStateException("키 페어를 생성하지 못했습니다.", e);
+		}
+	}
+
+	/**
+	 * 풀이 가득 차면 put 에서 대기하고, 꺼내 가면 하나 더 생성
+	 */
+	private void refill() {
+		try {
+			while (!Thread.currentThread().isInterrupted()) {
+				keyPairs.put(signatureEngine.generateKeyPair(verifyProperties.keySize));
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (NoSuchAlgorithmException | RuntimeException e) {
+			log.error("키 페어 풀을 채우지 못하였습니다. 이후 키 페어는 요청 시 생성합니다.", e);
+		}
+	}
+
+	/**
+	 * 지금 풀에 있는 키 페어 수
+	 */
+	public int size() {
+		return keyPairs != null ? keyPairs.size() : 0;
+	}
+
+	/**
+	 * 풀에서 바로 꺼낸 횟수
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * 풀이 비어 요청 시 생성한 횟수, 풀을 쓰지 않으면 항상 0
+	 */
+	public long getStarvationCount() {
+		return starvationCount.get();
+	}
+}
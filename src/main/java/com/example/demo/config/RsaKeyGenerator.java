@@ -4,15 +4,23 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.security.InvalidKeyException;
+import java.security.Key;
 import java.security.KeyFactory;
 import java.security.KeyPair;
-import java.security.KeyPairGenerator;
 import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.PublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.X509EncodedKeySpec;
@@ -20,17 +28,39 @@ import java.util.Base64;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
 import javax.crypto.NoSuchPaddingException;
 
+import com.example.demo.jfr.Base58Event;
+import com.example.demo.jfr.KeyLoadEvent;
+import com.example.demo.jfr.KeyParseEvent;
+import com.example.demo.signature.SignatureEngine;
+import com.example.demo.signature.SignatureEngines;
+import com.example.demo.util.Base58Util;
+import com.example.demo.util.CryptoPool;
+import com.example.demo.util.JwsMetrics;
+import com.example.demo.util.VirtualThreads;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.micrometer.core.instrument.Timer;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import org.bitcoinj.core.Base58;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.stereotype.Component;
@@ -39,23 +69,198 @@ import org.springframework.stereotype.Component;
 @Getter
 @Component
 @Configuration
-public class RsaKeyGenerator implements InitializingBean {
+public class RsaKeyGenerator implements InitializingBean, DisposableBean {
 	private static final Logger LOGGER = LoggerFactory.getLogger(RsaKeyGenerator.class);
 
+	private static final String PUBLIC_KEY_FILE = "public.pem";
+	private static final String PRIVATE_KEY_FILE = "private.pem";
+
+	/**
+	 * 키 파일 교체 시 두 파일이 모두 쓰여질 때까지 기다리는 시간
+	 */
+	private static final long RELOAD_SETTLE_MILLIS = 200L;
+
+	/**
+	 * 키 조회 경로별 타이머 (JwsMetrics)
+	 */
+	private static final Timer KEY_FROM_CACHE = JwsMetrics.keyResolve("cache");
+	private static final Timer KEY_FROM_PARSE = JwsMetrics.keyResolve("parse");
+	private static final Timer KEY_FROM_FILE = JwsMetrics.keyResolve("file");
+
 	protected final VerifyProperties verifyProperties;
 
+	/**
+	 * 설정된 서명 알고리즘의 엔진, 서버 키와 요청 키의 기본 키 알고리즘을 정함
+	 */
+	protected final SignatureEngine signatureEngine;
+
+	/**
+	 * 메모리에 보관 중인 서버 키 페어, 키 파일이 교체되면 통째로 바뀜
+	 */
+	@Getter(AccessLevel.NONE)
+	private final AtomicReference<ServerKey> serverKey = new AtomicReference<>();
+
+	@Getter(AccessLevel.NONE)
+	private volatile WatchService watchService;
+
+	/**
+	 * 요청으로 전달된 (키 알고리즘, 키 문자열) -> 파싱된 공개키 캐시
+	 */
+	@Getter(AccessLevel.NONE)
+	private final Cache<KeyCacheKey, PublicKey> publicKeyCache;
+
+	/**
+	 * 요청으로 전달된 (키 알고리즘, 키 문자열) -> 파싱된 개인키 캐시
+	 */
+	@Getter(AccessLevel.NONE)
+	private final Cache<KeyCacheKey, PrivateKey> privateKeyCache;
+
 	public RsaKeyGenerator(VerifyProperties verifyProperties) {
 		this.verifyProperties = verifyProperties;
+		this.signatureEngine = SignatureEngines.forAlgorithm(verifyProperties.algorithm);
+		this.publicKeyCache = newKeyCache(verifyProperties);
+		this.privateKeyCache = newKeyCache(verifyProperties);
+		JwsMetrics.monitor(publicKeyCache, "publicKey");
+		JwsMetrics.monitor(privateKeyCache, "privateKey");
+	}
+
+	private static <K> Cache<KeyCacheKey, K> newKeyCache(VerifyProperties verifyProperties) {
+		return CacheBuilder.newBuilder()
+				.maximumSize(verifyProperties.keyCacheMaximumSize)
+				.expireAfterWrite(verifyProperties.keyCacheTtlSeconds, TimeUnit.SECONDS)
+				.recordStats()
+				.build();
 	}
 
 
 	@Override
-	public void afterPropertiesSet() throws NoSuchAlgorithmException, IOException {
+	public void afterPropertiesSet() throws NoSuchAlgorithmException, IOException, InvalidKeySpecException {
 		if (!keyFileCheck()) {
 			createKeyFile();
 		} else {
 			LOGGER.info("RSA 키가 존재하여 기존 키를 활용합니다.");
 		}
+		reloadServerKey();
+		startKeyFileWatcher();
+	}
+
+	@Override
+	public void destroy() throws IOException {
+		WatchService ws = watchService;
+		watchService = null;
+		if (ws != null) {
+			ws.close();
+		}
+	}
+
+	/**
+	 * 메모리의 서버 키를 리턴하는 메소드, 아직 읽지 않았다면 키 파일을 읽어 채움
+	 */
+	private ServerKey loadedServerKey() throws IOException, NoSuchAlgorithmException, InvalidKeySpecException {
+		ServerKey key = serverKey.get();
+		if (key != null) {
+			return key;
+		}
+		synchronized (serverKey) {
+			key = serverKey.get();
+			if (key == null) {
+				if (!keyFileCheck()) {
+					createKeyFile();
+				}
+				key = reloadServerKey();
+			}
+			return key;
+		}
+	}
+
+	/**
+	 * 키 파일을 읽어 메모리의 서버 키를 교체하는 메소드
+	 */
+	private ServerKey reloadServerKey() throws IOException, NoSuchAlgorithmException, InvalidKeySpecException {
+		KeyLoadEvent event = new KeyLoadEvent();
+		event.begin();
+		long start = System.nanoTime();
+		String publicKeyText = new String(Files.readAllBytes(Paths.get(verifyProperties.path + PUBLIC_KEY_FILE)),
+				StandardCharsets.UTF_8).trim();
+		String privateKeyText = new String(Files.readAllBytes(Paths.get(verifyProperties.path + PRIVATE_KEY_FILE)),
+				StandardCharsets.UTF_8).trim();
+		ServerKey key;
+		try {
+			key = new ServerKey(getPublicKey(publicKeyText), getPrivateKey(privateKeyText), publicKeyText, privateKeyText);
+		} catch (InvalidKeySpecException e) {
+			throw new InvalidKeySpecException("키 파일이 " + signatureEngine.getKeyAlgorithm()
+					+ " 키가 아닙니다. 서명 알고리즘을 바꾼 경우 키 파일을 새로 만들어야 합니다.", e);
+		}
+		if (!key.isPair()) {
+			throw new InvalidKeySpecException("public.pem 과 private.pem 이 같은 키 페어가 아닙니다.");
+		}
+		serverKey.set(key);
+		JwsMetrics.record(KEY_FROM_FILE, start);
+		event.source = "file";
+		event.keyType = "pair";
+		event.keyAlgorithm = signatureEngine.getKeyAlgorithm();
+		event.finish(publicKeyText.length() + privateKeyText.length(), key.publicKey);
+		return key;
+	}
+
+	/**
+	 * 키 파일 경로를 감시하여 키 파일이 바뀌면 다시 읽는 스레드를 시작
+	 */
+	private void startKeyFileWatcher() throws IOException {
+		Path folder = Paths.get(verifyProperties.path);
+		WatchService ws = folder.getFileSystem().newWatchService();
+		folder.register(ws, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+		watchService = ws;
+
+		Runnable task = () -> watchKeyFiles(ws);
+		Thread watcher;
+		if (verifyProperties.virtualThreads && VirtualThreads.isSupported()) {
+			// 가상 스레드는 항상 데몬
+			watcher = VirtualThreads.factory("key-file-watcher-").newThread(task);
+		} else {
+			watcher = new Thread(task, "key-file-watcher");
+			watcher.setDaemon(true);
+		}
+		watcher.start();
+	}
+
+	private void watchKeyFiles(WatchService ws) {
+		try {
+			while (true) {
+				WatchKey watchKey = ws.take();
+				boolean changed = drainKeyFileEvents(watchKey);
+				// 키 파일 두 개가 연달아 쓰여지므로 잠시 기다린 뒤 한 번만 다시 읽음
+				while ((watchKey = ws.poll(RELOAD_SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+					changed |= drainKeyFileEvents(watchKey);
+				}
+				if (changed) {
+					try {
+						reloadServerKey();
+						LOGGER.info("RSA 키 파일이 변경되어 키를 다시 읽었습니다.");
+					} catch (IOException | NoSuchAlgorithmException | InvalidKeySpecException | RuntimeException e) {
+						LOGGER.warn("RSA 키 파일을 읽지 못하여 기존 키를 유지합니다.", e);
+					}
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ClosedWatchServiceException e) {
+			LOGGER.debug("키 파일 감시를 종료합니다.");
+		}
+	}
+
+	private boolean drainKeyFileEvents(WatchKey watchKey) {
+		boolean changed = false;
+		for (WatchEvent<?> event : watchKey.pollEvents()) {
+			Object context = event.context();
+			if (event.kind() == StandardWatchEventKinds.OVERFLOW
+					|| PUBLIC_KEY_FILE.equals(String.valueOf(context))
+					|| PRIVATE_KEY_FILE.equals(String.valueOf(context))) {
+				changed = true;
+			}
+		}
+		watchKey.reset();
+		return changed;
 	}
 
 	/**
@@ -66,7 +271,7 @@ public class RsaKeyGenerator implements InitializingBean {
 		if (!folder.exists()) {
 			return false;
 		} else {
-			String[] files = new String[] { verifyProperties.path + "public.pem", verifyProperties.path + "private.pem" };
+			String[] files = new String[] { verifyProperties.path + PUBLIC_KEY_FILE, verifyProperties.path + PRIVATE_KEY_FILE };
 			for (String f : files) {
 				File file = new File(f);
 				if (!file.exists())
@@ -80,35 +285,32 @@ public class RsaKeyGenerator implements InitializingBean {
 	 * 키 파일을 생성하는 메소드, 무조건 파일을 모두 새로 생성
 	 */
 	private void createKeyFile() throws IOException, NoSuchAlgorithmException {
-		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance(verifyProperties.algorithm);
-		keyPairGenerator.initialize(verifyProperties.keySize);
-		KeyPair keyPair = keyPairGenerator.genKeyPair();
+		KeyPair keyPair = signatureEngine.generateKeyPair(verifyProperties.keySize);
 		Map<String, String> keys = new LinkedHashMap<>();
-		keys.put("PublicKey",Base58.encode(keyPair.getPublic().getEncoded()));
-		keys.put("PrivateKey",Base58.encode(keyPair.getPrivate().getEncoded()));
+		keys.put("PublicKey",Base58Util.encode(keyPair.getPublic().getEncoded()));
+		keys.put("PrivateKey",Base58Util.encode(keyPair.getPrivate().getEncoded()));
 		FileOutputStream fos = null;
 		try {
 			File folder = new File(verifyProperties.path);
 			if (!folder.exists()){
-				folder.mkdir();
-			}
-			File[] files = folder.listFiles();
-			for (File f : files) {
-				f.delete();
+				folder.mkdirs();
 			}
+			// 같은 경로의 키링 파일은 두고 서버 키 파일만 지움
+			new File(folder, PUBLIC_KEY_FILE).delete();
+			new File(folder, PRIVATE_KEY_FILE).delete();
 			for (Map.Entry<String, String> entry : keys.entrySet()) {
 				String path = null;
 				if (entry.getKey().equals("PublicKey")) {
-					path = verifyProperties.path + "public.pem";
+					path = verifyProperties.path + PUBLIC_KEY_FILE;
 				} else if (entry.getKey().equals("PrivateKey")){
-					path = verifyProperties.path + "private.pem";
+					path = verifyProperties.path + PRIVATE_KEY_FILE;
 				} else {
 					log.info("Key is not found in the key box");
 				}
 				File file = new File(path);
 				fos = new FileOutputStream(file);
 				fos.write(entry.getValue().getBytes());
-				LOGGER.info("RSA 키를 새로 생성하였습니다.");
+				LOGGER.info("{} 키를 새로 생성하였습니다.", signatureEngine.getKeyAlgorithm());
 			}
 		} catch (IOException e) {
 			throw e;
@@ -126,14 +328,8 @@ public class RsaKeyGenerator implements InitializingBean {
 	public Map<String, Object> createKey(){
 		Map<String, Object> Map = new HashMap<>();
 		try {
-			// RSA 키페어 생성을 위한 KeyPairGenerator 인스턴스 생성
-			KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance(verifyProperties.algorithm);
-
-			// 키페어 생성 시 사용할 키파라미터 설정 (여기서는 기본값 사용)
-			keyPairGenerator.initialize(verifyProperties.keySize); // 키파라미터에 따라 키크기가 다를 수 있습니다.
-
-			// 키페어 생성
-			KeyPair keyPair = keyPairGenerator.genKeyPair();
+			// 설정된 서명 알고리즘에 맞는 키페어 생성 (RSA 는 keySize, EC 는 P-256, Ed25519 는 고정 크기)
+			KeyPair keyPair = signatureEngine.generateKeyPair(verifyProperties.keySize);
 
 			// 생성된 공개키와 개인키 출력
 			Map.put("PublicKey", keyPair.getPublic());
@@ -146,57 +342,161 @@ public class RsaKeyGenerator implements InitializingBean {
 
 
 	/**
-	 * 키를 받아 복호화헤서 리턴하는 메소드
+	 * 키를 받아 복호화헤서 리턴하는 메소드, 같은 키 문자열은 캐시에서 리턴
 	 */
 	public PrivateKey getPrivateKey(String privateKey) throws NoSuchAlgorithmException, InvalidKeySpecException {
+		return getPrivateKey(signatureEngine.getKeyAlgorithm(), privateKey);
+	}
 
-		byte[] bytes = Base58.decode(privateKey);
-		PKCS8EncodedKeySpec spec = new PKCS8EncodedKeySpec(bytes);
-		KeyFactory keyFactory = KeyFactory.getInstance(verifyProperties.algorithm);
-		PrivateKey pk = keyFactory.generatePrivate(spec);
-		return pk;
+	/**
+	 * 키 알고리즘을 지정하여 키를 파싱, 같은 알고리즘과 키 문자열은 캐시에서 리턴
+	 */
+	public PrivateKey getPrivateKey(String keyAlgorithm, String privateKey) throws NoSuchAlgorithmException,
+			InvalidKeySpecException {
+		return getCachedKey(privateKeyCache, "private", new KeyCacheKey(keyAlgorithm, privateKey, false),
+				new KeyLoader<>(() -> parsePrivateKey(keyAlgorithm, privateKey)));
 	}
 
 	/**
-	 * 키를 받아 복호화헤서 리턴하는 메소드
+	 * 키를 받아 복호화헤서 리턴하는 메소드, 같은 키 문자열은 캐시에서 리턴
 	 */
 	public PublicKey getPublicKey(String publicKey) throws NoSuchAlgorithmException, InvalidKeySpecException {
+		return getPublicKey(signatureEngine.getKeyAlgorithm(), publicKey);
+	}
 
-		byte[] bytes = Base58.decode(publicKey);
+	/**
+	 * 키 알고리즘을 지정하여 키를 파싱, 같은 알고리즘과 키 문자열은 캐시에서 리턴
+	 */
+	public PublicKey getPublicKey(String keyAlgorithm, String publicKey) throws NoSuchAlgorithmException,
+			InvalidKeySpecException {
+		return getCachedKey(publicKeyCache, "public", new KeyCacheKey(keyAlgorithm, publicKey, false),
+				new KeyLoader<>(() -> parsePublicKey(keyAlgorithm, publicKey)));
+	}
+
+	/**
+	 * DER(X.509) 공개키를 파싱 (CBOR 요청문), 같은 알고리즘과 바이트는 캐시에서 리턴
+	 */
+	public PublicKey getPublicKey(String keyAlgorithm, byte[] encoded) throws NoSuchAlgorithmException,
+			InvalidKeySpecException {
+		// 바이트를 ISO-8859-1 문자로 1:1 대응시켜 Base58 키 문자열과 같은 캐시를 사용
+		String keyText = new String(encoded, StandardCharsets.ISO_8859_1);
+		return getCachedKey(publicKeyCache, "public", new KeyCacheKey(keyAlgorithm, keyText, true),
+				new KeyLoader<>(() -> parsePublicKey(keyAlgorithm, encoded)));
+	}
+
+	/**
+	 * 공개키 캐시 통계 (hit / miss / eviction)
+	 */
+	public CacheStats getPublicKeyCacheStats() {
+		return publicKeyCache.stats();
+	}
+
+	/**
+	 * 개인키 캐시 통계 (hit / miss / eviction)
+	 */
+	public CacheStats getPrivateKeyCacheStats() {
+		return privateKeyCache.stats();
+	}
+
+	private PrivateKey parsePrivateKey(String keyAlgorithm, String privateKey) throws NoSuchAlgorithmException, InvalidKeySpecException {
+		KeyParseEvent event = new KeyParseEvent();
+		event.begin();
+		byte[] bytes = decodeKeyText(privateKey);
+		PKCS8EncodedKeySpec spec = new PKCS8EncodedKeySpec(bytes);
+		KeyFactory keyFactory = CryptoPool.keyFactory(keyAlgorithm);
+		PrivateKey pk = keyFactory.generatePrivate(spec);
+		event.keyType = "private";
+		event.keyAlgorithm = keyAlgorithm;
+		event.finish(privateKey.length(), pk);
+		return pk;
+	}
+
+	private PublicKey parsePublicKey(String keyAlgorithm, String publicKey) throws NoSuchAlgorithmException, InvalidKeySpecException {
+		return parsePublicKey(keyAlgorithm, decodeKeyText(publicKey));
+	}
+
+	private PublicKey parsePublicKey(String keyAlgorithm, byte[] bytes) throws NoSuchAlgorithmException, InvalidKeySpecException {
+		KeyParseEvent event = new KeyParseEvent();
+		event.begin();
 		X509EncodedKeySpec spec = new X509EncodedKeySpec(bytes);
-		KeyFactory keyFactory = KeyFactory.getInstance(verifyProperties.algorithm);
+		KeyFactory keyFactory = CryptoPool.keyFactory(keyAlgorithm);
 		PublicKey pk = keyFactory.generatePublic(spec);
+		event.keyType = "public";
+		event.keyAlgorithm = keyAlgorithm;
+		event.finish(bytes.length, pk);
 		return pk;
 	}
 
 	/**
-	 * 키 파일을 읽어 리턴하는 메소드, 없을 경우 새로 생성 (for serverKey)
+	 * Base58 키 문자열을 바이트로 복원
 	 */
-	public PrivateKey getPrivateKey() throws IOException, NoSuchAlgorithmException, InvalidKeySpecException {
-		if (!keyFileCheck()) {
-			createKeyFile();
+	private static byte[] decodeKeyText(String keyText) throws InvalidKeySpecException {
+		Base58Event event = new Base58Event();
+		event.begin();
+		byte[] bytes;
+		try {
+			bytes = Base58Util.decode(keyText);
+		} catch (IllegalArgumentException e) {
+			throw new InvalidKeySpecException("Base58 형식이 아닌 키입니다.", e);
 		}
-		byte[] bytes = Files.readAllBytes(Paths.get(verifyProperties.path + "private.pem"));
-		bytes = Base58.decode(new String(bytes, StandardCharsets.UTF_8));
-		PKCS8EncodedKeySpec spec = new PKCS8EncodedKeySpec(bytes);
-		KeyFactory keyFactory = KeyFactory.getInstance(verifyProperties.algorithm);
-		PrivateKey pk = keyFactory.generatePrivate(spec);
-		return pk;
+		event.operation = "decode";
+		event.finish(keyText.length(), null);
+		return bytes;
 	}
 
 	/**
-	 * 키 파일을 읽어 리턴하는 메소드, 없을 경우 새로 생성 (for serverKey)
+	 * 캐시에서 키를 찾고 없으면 파싱하여 저장, 파싱 중 발생한 예외는 원래 타입으로 다시 던짐
+	 * @param keyType public / private (JFR 이벤트용)
 	 */
-	public PublicKey getPublicKey() throws IOException, NoSuchAlgorithmException, InvalidKeySpecException {
-		if (!keyFileCheck()) {
-			createKeyFile();
+	private static <K extends Key> K getCachedKey(Cache<KeyCacheKey, K> cache, String keyType, KeyCacheKey key,
+			KeyLoader<K> loader) throws NoSuchAlgorithmException, InvalidKeySpecException {
+		KeyLoadEvent event = new KeyLoadEvent();
+		event.begin();
+		long start = System.nanoTime();
+		try {
+			K value = cache.get(key, loader);
+			JwsMetrics.record(loader.loaded ? KEY_FROM_PARSE : KEY_FROM_CACHE, start);
+			event.source = loader.loaded ? "parse" : "cache";
+			event.keyType = keyType;
+			event.keyAlgorithm = key.keyAlgorithm;
+			event.finish(key.keyText.length(), value);
+			return value;
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			Throwables.propagateIfPossible(cause, NoSuchAlgorithmException.class, InvalidKeySpecException.class);
+			throw new IllegalStateException(cause);
+		} catch (UncheckedExecutionException e) {
+			Throwables.throwIfUnchecked(e.getCause());
+			throw e;
 		}
-		byte[] bytes = Files.readAllBytes(Paths.get(verifyProperties.path + "public.pem"));
-		bytes = Base58.decode(new String(bytes, StandardCharsets.UTF_8));
-		X509EncodedKeySpec spec = new X509EncodedKeySpec(bytes);
-		KeyFactory keyFactory = KeyFactory.getInstance(verifyProperties.algorithm);
-		PublicKey pk = keyFactory.generatePublic(spec);
-		return pk;
+	}
+
+	/**
+	 * 메모리의 서버 개인키를 리턴하는 메소드, 처음 호출 시 키 파일을 읽고 없을 경우 새로 생성 (for serverKey)
+	 */
+	public PrivateKey getPrivateKey() throws IOException, NoSuchAlgorithmException, InvalidKeySpecException {
+		return loadedServerKey().privateKey;
+	}
+
+	/**
+	 * 메모리의 서버 공개키를 리턴하는 메소드, 처음 호출 시 키 파일을 읽고 없을 경우 새로 생성 (for serverKey)
+	 */
+	public PublicKey getPublicKey() throws IOException, NoSuchAlgorithmException, InvalidKeySpecException {
+		return loadedServerKey().publicKey;
+	}
+
+	/**
+	 * 서버 개인키의 Base58 문자열 (키 파일 내용)
+	 */
+	public String getPrivateKeyText() throws IOException, NoSuchAlgorithmException, InvalidKeySpecException {
+		return loadedServerKey().privateKeyText;
+	}
+
+	/**
+	 * 서버 공개키의 Base58 문자열 (키 파일 내용)
+	 */
+	public String getPublicKeyText() throws IOException, NoSuchAlgorithmException, InvalidKeySpecException {
+		return loadedServerKey().publicKeyText;
 	}
 
 	/**
@@ -205,7 +505,7 @@ public class RsaKeyGenerator implements InitializingBean {
 	public String encryptPubRSA(String plainText) throws NoSuchAlgorithmException, InvalidKeySpecException,
 			IOException, InvalidKeyException, NoSuchPaddingException, IllegalBlockSizeException, BadPaddingException {
 		PublicKey publicKey = getPublicKey();
-		Cipher cipher = Cipher.getInstance("RSA");
+		Cipher cipher = CryptoPool.cipher("RSA");
 		cipher.init(Cipher.ENCRYPT_MODE, publicKey);
 		byte[] bytePlain = cipher.doFinal(plainText.getBytes());
 		String encrypted = Base64.getEncoder().encodeToString(bytePlain);
@@ -218,7 +518,7 @@ public class RsaKeyGenerator implements InitializingBean {
 	public String decryptPrvRSA(String encrypted) throws NoSuchAlgorithmException, InvalidKeySpecException,
 			IOException, InvalidKeyException, NoSuchPaddingException, IllegalBlockSizeException, BadPaddingException{
 		PrivateKey privateKey = getPrivateKey();
-		Cipher cipher2 = Cipher.getInstance("RSA");
+		Cipher cipher2 = CryptoPool.cipher("RSA");
 		byte[] byteEncrypted = Base64.getDecoder().decode(encrypted.getBytes());
 		cipher2.init(Cipher.DECRYPT_MODE, privateKey);
 		byte[] bytePlain = cipher2.doFinal(byteEncrypted);
@@ -232,7 +532,7 @@ public class RsaKeyGenerator implements InitializingBean {
 	public String encryptPrvRSA(String plainText) throws NoSuchAlgorithmException, InvalidKeySpecException,
 			IOException, InvalidKeyException, NoSuchPaddingException, IllegalBlockSizeException, BadPaddingException {
 		PrivateKey privateKey = getPrivateKey();
-		Cipher cipher = Cipher.getInstance("RSA");
+		Cipher cipher = CryptoPool.cipher("RSA");
 		cipher.init(Cipher.ENCRYPT_MODE, privateKey);
 		byte[] bytePlain = cipher.doFinal(plainText.getBytes());
 		String encrypted = Base64.getEncoder().encodeToString(bytePlain);
@@ -245,7 +545,7 @@ public class RsaKeyGenerator implements InitializingBean {
 	public String decryptPubRSA(String encrypted) throws NoSuchAlgorithmException, InvalidKeySpecException,
 			IOException, InvalidKeyException, NoSuchPaddingException, IllegalBlockSizeException, BadPaddingException{
 		PublicKey publicKey = getPublicKey();
-		Cipher cipher2 = Cipher.getInstance("RSA");
+		Cipher cipher2 = CryptoPool.cipher("RSA");
 		byte[] byteEncrypted = Base64.getDecoder().decode(encrypted.getBytes());
 		cipher2.init(Cipher.DECRYPT_MODE, publicKey);
 		byte[] bytePlain = cipher2.doFinal(byteEncrypted);
@@ -260,13 +560,31 @@ public class RsaKeyGenerator implements InitializingBean {
 			InvalidKeyException, NoSuchPaddingException, IllegalBlockSizeException, BadPaddingException {
 
 		PrivateKey pk = getPrivateKey(privateKey);
-		Cipher cipher = Cipher.getInstance("RSA");
-		cipher.init(Cipher.ENCRYPT_MODE, pk);
-		byte[] bytePlain = cipher.doFinal(plainText.getBytes());
+		return encryptPrvRSA(plainText, pk);
+	}
+
+	/**
+	 * 파싱된 private 키로 암호화
+	 */
+	public String encryptPrvRSA(String plainText, PrivateKey privateKey) throws NoSuchAlgorithmException,
+			InvalidKeyException, NoSuchPaddingException, IllegalBlockSizeException, BadPaddingException {
+
+		byte[] bytePlain = encryptPrvRSA(plainText.getBytes(), privateKey);
 		String encrypted = Base64.getEncoder().encodeToString(bytePlain);
 		return encrypted;
 	}
 
+	/**
+	 * 파싱된 private 키로 바이트 배열 암호화 (문자열 / Base64 변환 없음)
+	 */
+	public byte[] encryptPrvRSA(byte[] plain, PrivateKey privateKey) throws NoSuchAlgorithmException,
+			InvalidKeyException, NoSuchPaddingException, IllegalBlockSizeException, BadPaddingException {
+
+		Cipher cipher = CryptoPool.cipher("RSA");
+		cipher.init(Cipher.ENCRYPT_MODE, privateKey);
+		return cipher.doFinal(plain);
+	}
+
 	/**
 	 * public 키로 복호화
 	 */
@@ -274,11 +592,78 @@ public class RsaKeyGenerator implements InitializingBean {
 			IOException, InvalidKeyException, NoSuchPaddingException, IllegalBlockSizeException, BadPaddingException{
 
 		PublicKey pk = getPublicKey(publicKey);
-		Cipher cipher2 = Cipher.getInstance("RSA");
 		byte[] byteEncrypted = Base64.getDecoder().decode(encrypted.getBytes());
-		cipher2.init(Cipher.DECRYPT_MODE, pk);
-		byte[] bytePlain = cipher2.doFinal(byteEncrypted);
+		byte[] bytePlain = decryptPubRSA(byteEncrypted, pk);
 		String decrypted = new String(bytePlain, "utf-8");
 		return decrypted;
 	}
+
+	/**
+	 * 파싱된 public 키로 바이트 배열 복호화 (문자열 변환 없음)
+	 */
+	public byte[] decryptPubRSA(byte[] encrypted, PublicKey publicKey) throws NoSuchAlgorithmException,
+			InvalidKeyException, NoSuchPaddingException, IllegalBlockSizeException, BadPaddingException {
+
+		Cipher cipher = CryptoPool.cipher("RSA");
+		cipher.init(Cipher.DECRYPT_MODE, publicKey);
+		return cipher.doFinal(encrypted);
+	}
+
+	/**
+	 * 캐시에 없어 실제로 파싱하였는지 기록하는 로더 (지표의 cache / parse 구분용)
+	 * 로더는 캐시가 고른 스레드에서 실행될 수 있으므로 loaded 는 volatile 로 호출 스레드에 보임
+	 */
+	private static final class KeyLoader<K> implements Callable<K> {
+		private final Callable<K> parser;
+		private volatile boolean loaded;
+
+		private KeyLoader(Callable<K> parser) {
+			this.parser = parser;
+		}
+
+		@Override
+		public K call() throws Exception {
+			loaded = true;
+			return parser.call();
+		}
+	}
+
+	/**
+	 * 키 캐시의 키, 같은 문자열이라도 키 알고리즘이 다르면 따로 보관
+	 * der 이면 keyText 는 Base58 이 아닌 DER 바이트를 ISO-8859-1 로 옮긴 문자열
+	 */
+	@EqualsAndHashCode
+	@AllArgsConstructor
+	private static final class KeyCacheKey {
+		private final String keyAlgorithm;
+		private final String keyText;
+		private final boolean der;
+	}
+
+	/**
+	 * 키 파일에서 읽은 서버 키 페어, 교체 시 새 객체로 바뀌므로 불변으로 유지
+	 */
+	private static final class ServerKey {
+		private final PublicKey publicKey;
+		private final PrivateKey privateKey;
+		private final String publicKeyText;
+		private final String privateKeyText;
+
+		private ServerKey(PublicKey publicKey, PrivateKey privateKey, String publicKeyText, String privateKeyText) {
+			this.publicKey = publicKey;
+			this.privateKey = privateKey;
+			this.publicKeyText = publicKeyText;
+			this.privateKeyText = privateKeyText;
+		}
+
+		/**
+		 * 교체 도중 한쪽 파일만 바뀐 상태를 걸러내기 위해 두 키의 modulus 를 비교
+		 */
+		private boolean isPair() {
+			if (publicKey instanceof RSAPublicKey && privateKey instanceof RSAPrivateKey) {
+				return ((RSAPublicKey) publicKey).getModulus().equals(((RSAPrivateKey) privateKey).getModulus());
+			}
+			return true;
+		}
+	}
 }
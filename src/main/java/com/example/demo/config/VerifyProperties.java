@@ -23,17 +23,84 @@ public class VerifyProperties {
 	protected String path = "C:/git-personal/demo/files/";
 
 	/**
-	 * 키 페어 생성 알고리즘
+	 * 서명 알고리즘, 키 페어도 이 알고리즘에 맞게 생성
+	 * RSA (기존 RSA 암호화 방식), SHA256withRSA, SHA256withECDSA (P-256), Ed25519
 	 */
 	@Value("${keyPair.algorithm}")
 	protected String algorithm = "RSA";
 
 	/**
-	 * 키 페어 크기
+	 * 키 페어 크기 (RSA 계열만 사용)
 	 */
 	@Value("${keyPair.keySize}")
 	protected int keySize = 2048;
 
+	/**
+	 * 미리 생성해 두는 키 페어 수 (0 이면 풀을 쓰지 않고 요청 시 생성)
+	 */
+	@Value("${keyPairPool.depth}")
+	protected int keyPairPoolDepth = 8;
+
+	/**
+	 * 키 페어 풀을 채우는 낮은 우선순위 스레드 수
+	 */
+	@Value("${keyPairPool.refillThreads}")
+	protected int keyPairPoolRefillThreads = 1;
+
+	/**
+	 * 키링 인덱스의 처음 슬롯 수 (2의 거듭제곱으로 올림), 키가 절반을 넘으면 두 배로 늘림
+	 */
+	@Value("${keyRing.initialCapacity}")
+	protected int keyRingInitialCapacity = 1024;
+
+	/**
+	 * 파싱된 키 캐시 최대 개수
+	 */
+	@Value("${keyCache.maximumSize}")
+	protected long keyCacheMaximumSize = 10000;
+
+	/**
+	 * 파싱된 키 캐시 유지 시간 (초)
+	 */
+	@Value("${keyCache.ttlSeconds}")
+	protected long keyCacheTtlSeconds = 3600;
+
+	/**
+	 * 메모리에 보관하는 발행자 공개키 (kid) 최대 개수, 나머지는 조회할 때 키링에서 읽음
+	 */
+	@Value("${issuerCache.maximumSize}")
+	protected long issuerCacheMaximumSize = 10000;
+
+	/**
+	 * 검증 성공 결과 캐시 최대 개수 (0 이면 캐시하지 않음)
+	 */
+	@Value("${verifyCache.maximumSize}")
+	protected long verifyCacheMaximumSize = 10000;
+
+	/**
+	 * 검증 성공 결과 캐시 유지 시간 (초)
+	 */
+	@Value("${verifyCache.ttlSeconds}")
+	protected long verifyCacheTtlSeconds = 60;
+
+	/**
+	 * 발행한 요청문 응답을 들여쓰기하여 씀 (false 면 공백 없이), 요청 헤더 X-Json-Format 이 있으면 헤더를 따름
+	 */
+	@Value("${response.prettyPrint}")
+	protected boolean responsePrettyPrint = true;
+
+	/**
+	 * 서명 / 검증 병렬 처리 스레드 수 (0 이면 코어 수)
+	 */
+	@Value("${crypto.parallelism}")
+	protected int cryptoParallelism = 0;
+
+	/**
+	 * 요청 처리, 일괄 처리 스트림, 키 파일 감시를 가상 스레드에서 실행 (JDK 21 이상, 아니면 무시)
+	 */
+	@Value("${threads.virtual}")
+	protected boolean virtualThreads = false;
+
 	/**
 	 * 설정 정보
 	 */
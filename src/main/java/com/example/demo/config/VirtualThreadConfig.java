@@ -0,0 +1,66 @@
+package com.example.demo.config;
+
+import com.example.demo.util.VirtualThreads;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 가상 스레드 실행 모드 (threads.virtual: true, JDK 21 이상)
+ * - Tomcat 요청 처리 스레드를 요청마다 가상 스레드로 만들어, 연결이 많아도 스레드 풀 크기에 막히지 않음
+ * - 일괄 발행 / 검증의 스트리밍 응답(StreamingResponseBody) 도 가상 스레드에서 읽고 씀
+ * - 서명 / 검증 같은 CPU 연산은 CryptoExecutor 의 플랫폼 스레드 풀에 넘겨 실행, 스레드별 Cipher / 버퍼를 재사용하고 동시 실행 수를 코어 수로 제한
+ * 설정이 꺼져 있거나 JDK 가 지원하지 않으면 기존 플랫폼 스레드 풀을 그대로 사용
+ */
+@Slf4j
+@Configuration
+public class VirtualThreadConfig implements WebMvcConfigurer, DisposableBean {
+
+	/**
+	 * 가상 스레드 실행기, 사용하지 않으면 null
+	 */
+	protected final ExecutorService executorService;
+
+	public VirtualThreadConfig(VerifyProperties verifyProperties) {
+		if (!verifyProperties.virtualThreads) {
+			this.executorService = null;
+		} else if (!VirtualThreads.isSupported()) {
+			log.warn("threads.virtual 이 설정되었지만 JDK {} 는 가상 스레드를 지원하지 않아 플랫폼 스레드를 사용합니다.",
+					System.getProperty("java.version"));
+			this.executorService = null;
+		} else {
+			this.executorService = VirtualThreads.newThreadPerTaskExecutor("http-virtual-");
+			log.info("요청 처리를 가상 스레드에서 실행합니다.");
+		}
+	}
+
+	@Bean
+	public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+		return protocolHandler -> {
+			if (executorService != null) {
+				protocolHandler.setExecutor(executorService);
+			}
+		};
+	}
+
+	@Override
+	public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+		if (executorService != null) {
+			configurer.setTaskExecutor(new TaskExecutorAdapter(executorService));
+		}
+	}
+
+	@Override
+	public void destroy() {
+		if (executorService != null) {
+			executorService.shutdown();
+		}
+	}
+}
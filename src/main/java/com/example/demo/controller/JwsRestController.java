@@ -1,38 +1,48 @@
 package com.example.demo.controller;
 
+import com.example.demo.config.KeyPairPool;
 import com.example.demo.config.VerifyProperties;
+import com.example.demo.keyring.IssuerRegistry;
 import com.example.demo.model.Request;
+import com.example.demo.util.Base58Util;
 import com.example.demo.util.ByteUtil;
 import com.example.demo.config.RsaKeyGenerator;
-import com.example.demo.util.JsonUtil;
+import com.example.demo.service.JwsService;
+import com.google.common.cache.CacheStats;
 import io.swagger.annotations.Api;
 import io.swagger.v3.oas.annotations.Operation;
-import org.bitcoinj.core.Base58;
 import org.json.JSONException;
-import org.json.JSONObject;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.FileCopyUtils;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.crypto.BadPaddingException;
 import javax.crypto.IllegalBlockSizeException;
 import javax.crypto.NoSuchPaddingException;
+import javax.servlet.http.HttpServletResponse;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
-import java.security.MessageDigest;
+import java.security.KeyPair;
 import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.PublicKey;
+import java.security.SignatureException;
 import java.security.spec.InvalidKeySpecException;
-import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @Api(tags = JwsRestController.TAG)
@@ -40,35 +50,112 @@ import java.util.Map;
 public class JwsRestController {
 
 	public static final String TAG = "JWS Manager API";
+	public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+	/**
+	 * 발행한 요청문 응답 형식 (compact: 공백 없이, pretty: 들여쓰기), 없으면 response.prettyPrint 설정을 따름
+	 */
+	public static final String JSON_FORMAT_HEADER = "X-Json-Format";
+	public static final String JSON_FORMAT_COMPACT = "compact";
+	public static final String TEXT_CSV_VALUE = "text/csv";
 	protected final VerifyProperties verifyProperties;
 	protected final RsaKeyGenerator rsaKeyGenerator;
+	protected final JwsService jwsService;
+	protected final KeyPairPool keyPairPool;
+	protected final IssuerRegistry issuerRegistry;
 
-	public JwsRestController(VerifyProperties verifyProperties) {
+	public JwsRestController(VerifyProperties verifyProperties, RsaKeyGenerator rsaKeyGenerator, JwsService jwsService,
+			KeyPairPool keyPairPool, IssuerRegistry issuerRegistry) {
 		this.verifyProperties = verifyProperties;
-		this.rsaKeyGenerator = new RsaKeyGenerator(verifyProperties);
+		this.rsaKeyGenerator = rsaKeyGenerator;
+		this.jwsService = jwsService;
+		this.keyPairPool = keyPairPool;
+		this.issuerRegistry = issuerRegistry;
 	}
 
+	/**
+	 * 설정된 서명 알고리즘(keyPair.algorithm)의 키 페어 생성
+	 * @return Base58 로 인코딩된 공개키 / 개인키
+	 */
 	@GetMapping("createKeyPair")
 	@Operation(summary = "키 페어 생성")
-	public Map<String, Object> createKeyPair(){
-		Map<String, Object> keyMap = rsaKeyGenerator.createKey();
+	public Map<String, Object> createKeyPair() throws NoSuchAlgorithmException {
+		// 미리 생성해 둔 키 페어를 사용하고, 풀이 비어 있으면 바로 생성
+		KeyPair keyPair = keyPairPool.take();
 		Map<String, Object> strKeymap = new HashMap<>();
 
-		PublicKey publicKey = (PublicKey) keyMap.get("PublicKey");
-		PrivateKey privateKey = (PrivateKey) keyMap.get("PrivateKey");
-
-		String strPublicKey = Base58.encode(publicKey.getEncoded());
-		String strPrivateKey = Base58.encode(privateKey.getEncoded());
+		String strPublicKey = Base58Util.encode(keyPair.getPublic().getEncoded());
+		String strPrivateKey = Base58Util.encode(keyPair.getPrivate().getEncoded());
 
 		strKeymap.put("publicKey", strPublicKey);
 		strKeymap.put("privateKey", strPrivateKey);
 		return strKeymap;
 	}
 
+	/**
+	 * 키 페어 일괄 생성
+	 * 코어 수만큼 병렬로 생성하여 생성되는 대로 {"index":.., "publicKey":.., "privateKey":..} 를 NDJSON 으로 응답
+	 * 생성된 키를 모두 모아 두지 않으므로 count 가 커도 메모리를 일정하게 사용하며, 연결이 끊기면 남은 생성은 취소
+	 * @param count 생성할 키 페어 수
+	 * @return 생성된 키 페어 스트림, 전체 건수는 X-Total-Count 헤더
+	 */
+	@GetMapping(value = "createKeyPair/bulk", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	@Operation(summary = "키 페어 일괄 생성")
+	public ResponseEntity<StreamingResponseBody> createKeyPairBulk(@RequestParam long count) {
+		if (count < 1) {
+			return ResponseEntity.badRequest().build();
+		}
+		StreamingResponseBody body = out -> jwsService.createKeyPairBulk(count, out, null);
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.header(TOTAL_COUNT_HEADER, Long.toString(count))
+				.body(body);
+	}
+
+	/**
+	 * 발행자 공개키 등록
+	 * 등록한 뒤에는 발행 시 kid 를 지정하면 요청문에 공개키 대신 kid 가 담기고, 검증 시 미리 파싱된 키를 사용
+	 * @param publicKey Base58 로 인코딩된 공개키 (설정된 서명 알고리즘의 키)
+	 * @return kid, 같은 공개키는 항상 같은 kid
+	 */
+	@PostMapping("issuers")
+	@Operation(summary = "발행자 공개키 등록")
+	public ResponseEntity<Object> registerIssuer(@RequestParam String publicKey) throws IOException,
+			NoSuchAlgorithmException {
+		Map<String, Object> issuer = new LinkedHashMap<>();
+		try {
+			issuer.put("kid", issuerRegistry.register(publicKey));
+		} catch (InvalidKeySpecException e) {
+			return new ResponseEntity<>("공개키 형식이 올바르지 않습니다.", HttpStatus.BAD_REQUEST);
+		}
+		issuer.put("publicKey", publicKey);
+		return new ResponseEntity<>(issuer, HttpStatus.OK);
+	}
+
+	/**
+	 * 등록된 발행자 공개키 조회
+	 * @param kid
+	 * @return kid, Base58 로 인코딩된 공개키
+	 */
+	@GetMapping("issuers/{kid}")
+	@Operation(summary = "발행자 공개키 조회")
+	public ResponseEntity<Object> getIssuer(@PathVariable String kid) throws IOException, NoSuchAlgorithmException {
+		PublicKey publicKey;
+		try {
+			publicKey = issuerRegistry.getPublicKey(kid);
+		} catch (InvalidKeySpecException e) {
+			return new ResponseEntity<>("등록되지 않은 kid 입니다.", HttpStatus.NOT_FOUND);
+		}
+		Map<String, Object> issuer = new LinkedHashMap<>();
+		issuer.put("kid", kid);
+		issuer.put("publicKey", Base58Util.encode(publicKey.getEncoded()));
+		return new ResponseEntity<>(issuer, HttpStatus.OK);
+	}
+
 	/**
 	 * JWS 토큰 발행
+	 * 요청문은 문자열로 만들지 않고 응답 스트림에 한 번에 씀
 	 * @param claim
-	 * @return
+	 * @param jsonFormat compact 또는 pretty (없으면 response.prettyPrint 설정)
 	 * @throws IOException
 	 * @throws NoSuchPaddingException
 	 * @throws IllegalBlockSizeException
@@ -76,64 +163,86 @@ public class JwsRestController {
 	 * @throws InvalidKeySpecException
 	 * @throws BadPaddingException
 	 * @throws InvalidKeyException
+	 * @throws SignatureException
 	 * @throws JSONException
 	 */
 	@PostMapping("createReqMsg")
 	@Operation(summary = "1. 토큰과 함께 요청문 발행")
-	public String createReqMsg(Request keyPair, @RequestBody String claim) throws IOException, NoSuchPaddingException,
-			IllegalBlockSizeException, NoSuchAlgorithmException, InvalidKeySpecException, BadPaddingException,
-			InvalidKeyException, JSONException {
+	public void createReqMsg(Request keyPair, @RequestBody String claim,
+			@RequestHeader(value = JSON_FORMAT_HEADER, required = false) String jsonFormat,
+			HttpServletResponse response) throws IOException, NoSuchPaddingException, IllegalBlockSizeException,
+			NoSuchAlgorithmException, InvalidKeySpecException, BadPaddingException, InvalidKeyException,
+			SignatureException, JSONException {
+		boolean pretty = jsonFormat == null ? verifyProperties.isResponsePrettyPrint()
+				: !JSON_FORMAT_COMPACT.equalsIgnoreCase(jsonFormat);
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		jwsService.writeReqMsg(keyPair, claim, response.getOutputStream(), pretty);
+	}
 
-		String header = "";
-		String payload = "";
-		String signature = "";
+	/**
+	 * JWS 토큰을 CBOR 요청문으로 발행 (Accept: application/cbor)
+	 * 해시와 서명을 텍스트 인코딩 없이 바이트로 담으므로 JSON 요청문보다 작고, 서명은 JSON 요청문과 같음
+	 * @param keyPair 서명 키 페어 (없으면 서버 키)
+	 * @param claim credentialSubject (JSON)
+	 * @return CBOR 요청문
+	 */
+	@PostMapping(value = "createReqMsg", produces = MediaType.APPLICATION_CBOR_VALUE)
+	@Operation(summary = "1. 토큰과 함께 요청문 발행 (CBOR)")
+	public ResponseEntity<byte[]> createReqMsgCbor(Request keyPair, @RequestBody String claim) throws IOException,
+			NoSuchPaddingException, IllegalBlockSizeException, NoSuchAlgorithmException, InvalidKeySpecException,
+			BadPaddingException, InvalidKeyException, SignatureException, JSONException {
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_CBOR)
+				.body(jwsService.createReqMsgCbor(keyPair, claim));
+	}
 
-		if(keyPair.getPublicKey() == null || keyPair.getPrivateKey() == null) {
-			keyPair.setPublicKey(Base58.encode(rsaKeyGenerator.getPublicKey().getEncoded()));
-			keyPair.setPrivateKey(Base58.encode(rsaKeyGenerator.getPrivateKey().getEncoded()));
-		}
+	/**
+	 * JWS 토큰 일괄 발행
+	 * claim JSON 배열 또는 NDJSON 을 받아 하나의 키로 병렬 서명하고, 발행된 요청문을 입력 순서대로 NDJSON 으로 응답
+	 * 키를 지정하지 않으면 서버 키를 사용, kid 를 지정하면 요청문에 공개키 대신 kid 를 담음
+	 * @param keyPair 서명 키 페어
+	 * @param claims claim 목록
+	 * @return 발행된 요청문 스트림
+	 */
+	@PostMapping(value = "createReqMsg/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	@Operation(summary = "1-1. 토큰과 함께 요청문 일괄 발행")
+	public ResponseEntity<StreamingResponseBody> createReqMsgBatch(Request keyPair, InputStream claims)
+			throws IOException, NoSuchAlgorithmException, InvalidKeySpecException {
+
+		// 키는 스트림을 시작하기 전에 한 번만 파싱하여 잘못된 키는 바로 오류로 응답
+		PrivateKey privateKey = jwsService.resolvePrivateKey(keyPair);
+
+		StreamingResponseBody body = out -> jwsService.createReqMsgBatch(keyPair, privateKey, claims, out);
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.body(body);
+	}
 
-		JSONObject jsonObject = new JSONObject();
-		MessageDigest digest = MessageDigest.getInstance("SHA-256");
-
-		jsonObject.put("type", "JWS");
-		jsonObject.put("alg", "SHA256");
-		jsonObject.put("credentialSubject", new JSONObject(claim));
-		jsonObject.put("publicKey", keyPair.getPublicKey());
-		// Header
-		byte[] byteHeaderData = ByteUtil.stringToBytes(
-				jsonObject.get("type").toString() + jsonObject.get("alg").toString());
-		header = Base58.encode(byteHeaderData);
-		System.out.println("header = " + header);
-
-		// Payload
-		byte[] bytePayloadData = ByteUtil.stringToBytes(jsonObject.get("credentialSubject").toString());
-		byte[] hashData = digest.digest(bytePayloadData);
-
-		// 바이트를 16진수 문자열로 변환
-		StringBuilder hexString = new StringBuilder();
-		for (byte b : hashData) {
-			String hex = Integer.toHexString(0xff & b);
-			if (hex.length() == 1) {
-				hexString.append('0');
-			}
-			hexString.append(hex);
+	/**
+	 * CSV 로 JWS 토큰 일괄 발행 (Content-Type: text/csv)
+	 * 첫 줄을 헤더로 하는 CSV 의 각 행을 {헤더: 값} credentialSubject 로 하나의 키로 병렬 서명하고, 입력 순서대로 응답
+	 * 행을 읽는 대로 서명하여 쓰므로 파일 크기와 상관없이 메모리를 일정하게 유지
+	 * @param keyPair 서명 키 페어 (없으면 서버 키)
+	 * @param format ndjson (createReqMsg/batch 와 같은 요청문) 또는 csv (입력 컬럼 + publicKey 또는 kid, jws, reason)
+	 * @param rows CSV
+	 * @return 발행된 요청문 스트림
+	 */
+	@PostMapping(value = "createReqMsg/batch", consumes = TEXT_CSV_VALUE)
+	@Operation(summary = "1-2. CSV 로 요청문 일괄 발행")
+	public ResponseEntity<StreamingResponseBody> createReqMsgCsv(Request keyPair,
+			@RequestParam(defaultValue = "ndjson") String format, InputStream rows)
+			throws IOException, NoSuchAlgorithmException, InvalidKeySpecException {
+		boolean csv = "csv".equalsIgnoreCase(format);
+		if (!csv && !"ndjson".equalsIgnoreCase(format)) {
+			return ResponseEntity.badRequest().build();
 		}
+		PrivateKey privateKey = jwsService.resolvePrivateKey(keyPair);
 
-		byte[] claimHexData = ByteUtil.stringToBytes(hexString.toString());
-		payload = Base58.encode(claimHexData);
-		System.out.println("payload = " + payload);
-
-		// Signature
-		signature = rsaKeyGenerator.encryptPrvRSA(payload, keyPair.getPrivateKey());
-		System.out.println("signature = " + signature);
-
-		String jws = header + "." + payload + "." + signature;
-		System.out.println("jws = " + jws);
-
-		jsonObject.put("jws", jws);
-
-		return JsonUtil.toPrettyString(jsonObject.toString());
+		StreamingResponseBody body = out -> jwsService.createReqMsgCsv(keyPair, privateKey, rows, out, csv, null);
+		return ResponseEntity.ok()
+				.contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON)
+				.body(body);
 	}
 
 	/**
@@ -147,54 +256,17 @@ public class JwsRestController {
 	 * @throws IOException
 	 * @throws BadPaddingException
 	 * @throws InvalidKeyException
+	 * @throws SignatureException
 	 * @throws JSONException
 	 */
 	@PostMapping("verifyReqMsg")
 	@Operation(summary = "2. 토큰을 통해 요청문 검증")
 	public ResponseEntity<Object> verifyReqMsg(@RequestBody String reqMsg) throws NoSuchPaddingException, IllegalBlockSizeException,
-			NoSuchAlgorithmException, InvalidKeySpecException, IOException, BadPaddingException, InvalidKeyException, JSONException {
-
-		String header = "";
-		String payload = "";
-		String signature = "";
-
-		JSONObject jsonObject = new JSONObject(reqMsg);
-		MessageDigest digest = MessageDigest.getInstance("SHA-256");
-
-		byte[] byteData = ByteUtil.stringToBytes(jsonObject.get("credentialSubject").toString());
-		byte[] hashData = digest.digest(byteData);
-
-		// 바이트를 16진수 문자열로 변환
-		StringBuilder hexString = new StringBuilder();
-		for (byte b : hashData) {
-			String hex = Integer.toHexString(0xff & b);
-			if (hex.length() == 1) {
-				hexString.append('0');
-			}
-			hexString.append(hex);
-		}
-
-		byte[] claimHexData = ByteUtil.stringToBytes(hexString.toString());
-
-		String[] splitArray = jsonObject.getString("jws").split("\\.");
-		for (int i = 0; i < splitArray.length; i++) {
-			if (i == 0) {
-				header = splitArray[i];
-			} else if (i == 1) {
-				payload = splitArray[i];
-			} else if (i == 2) {
-				signature = splitArray[i];
-			}
-		}
-
-		// Signature
-		String publickey = jsonObject.getString("publicKey");
-//		signature = rsaKeyGenerator.decryptPubRSA(signature);
-		signature = rsaKeyGenerator.decryptPubRSA(signature, publickey);
-		byte[] signatureHexData = Base58.decode(signature);
+			NoSuchAlgorithmException, InvalidKeySpecException, IOException, BadPaddingException, InvalidKeyException,
+			SignatureException, JSONException {
 
 		// 해시 검증을 통해 위변조 검증
-		if(Arrays.equals(claimHexData,signatureHexData)){
+		if(jwsService.verifyReqMsg(reqMsg)){
 			String successMessage = "검증 성공하였습니다.";
 			return new ResponseEntity<>(successMessage, HttpStatus.OK);
 		} else {
@@ -203,6 +275,60 @@ public class JwsRestController {
 		}
 	}
 
+	/**
+	 * CBOR 요청문 검증 (Content-Type: application/cbor)
+	 * @param reqMsg CBOR 요청문
+	 * @return 검증 결과
+	 */
+	@PostMapping(value = "verifyReqMsg", consumes = MediaType.APPLICATION_CBOR_VALUE)
+	@Operation(summary = "2. 토큰을 통해 요청문 검증 (CBOR)")
+	public ResponseEntity<Object> verifyReqMsgCbor(@RequestBody byte[] reqMsg) throws NoSuchPaddingException,
+			IllegalBlockSizeException, NoSuchAlgorithmException, InvalidKeySpecException, IOException,
+			BadPaddingException, InvalidKeyException, SignatureException, JSONException {
+		if (jwsService.verifyReqMsgCbor(reqMsg)) {
+			return new ResponseEntity<>("검증 성공하였습니다.", HttpStatus.OK);
+		}
+		return new ResponseEntity<>("검증 실패하였습니다.", HttpStatus.BAD_REQUEST);
+	}
+
+	/**
+	 * JWS 토큰 일괄 검증
+	 * 요청문 JSON 배열 또는 NDJSON 을 받아 병렬로 검증하고, 건별 결과를 끝나는 대로 NDJSON 으로 응답
+	 * 한 건이 실패해도 나머지는 계속 검증하며, 각 결과의 index 로 입력 순번을 알 수 있음
+	 * @param reqMsgs 요청문 목록
+	 * @return 건별 검증 결과 스트림
+	 */
+	@PostMapping(value = "verifyReqMsg/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	@Operation(summary = "3. 요청문 일괄 검증")
+	public ResponseEntity<StreamingResponseBody> verifyReqMsgBatch(InputStream reqMsgs) {
+		StreamingResponseBody body = out -> jwsService.verifyReqMsgBatch(reqMsgs, out);
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.body(body);
+	}
+
+	/**
+	 * 캐시 통계, 키 캐시와 검증 결과 캐시의 크기를 정하는 데 사용
+	 * @return 캐시별 hit / miss / hitRate / eviction
+	 */
+	@GetMapping("cacheStats")
+	@Operation(summary = "4. 캐시 통계")
+	public Map<String, Object> cacheStats() {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("publicKey", toMap(rsaKeyGenerator.getPublicKeyCacheStats()));
+		stats.put("privateKey", toMap(rsaKeyGenerator.getPrivateKeyCacheStats()));
+		stats.put("verifyResult", toMap(jwsService.getVerifyCacheStats()));
+		return stats;
+	}
+
+	private static Map<String, Object> toMap(CacheStats cacheStats) {
+		Map<String, Object> map = new LinkedHashMap<>();
+		map.put("hitCount", cacheStats.hitCount());
+		map.put("missCount", cacheStats.missCount());
+		map.put("hitRate", cacheStats.hitRate());
+		map.put("evictionCount", cacheStats.evictionCount());
+		return map;
+	}
 
 //========================================================================================================
 
@@ -221,13 +347,13 @@ public class JwsRestController {
 		System.out.println("publicKey = " + publicKey);
 
 		// Base58 인코딩
-		String encodedData = Base58.encode(ByteUtil.objectToBytes(publicKey));
+		String encodedData = Base58Util.encode(ByteUtil.objectToBytes(publicKey));
 
 		System.out.println("Original Data: " + publicKey);
 		System.out.println("Base58 Encoded: " + encodedData);
 
 		// Base58 디코딩
-		byte[] decodedBytes = Base58.decode(encodedData);
+		byte[] decodedBytes = Base58Util.decode(encodedData);
 		String decodedData = new String(decodedBytes);
 
 		System.out.println("Base58 Decoded: " + decodedData);
@@ -271,7 +397,7 @@ public class JwsRestController {
 //	@PostMapping("base58/json")
 	public String encryptJsonWithBas58(@RequestBody String strData) throws IOException {
 		byte[] byteData = ByteUtil.objectToBytes(strData);
-		String encData = Base58.encode(byteData);
+		String encData = Base58Util.encode(byteData);
 		System.out.println("encData = " + encData);
 
 		return encData;
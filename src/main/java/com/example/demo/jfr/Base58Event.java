@@ -0,0 +1,15 @@
+package com.example.demo.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Base58 인코딩 / 디코딩
+ */
+@Name("com.example.demo.Base58")
+@Label("JWS Base58")
+public class Base58Event extends JwsEvent {
+
+	@Label("Operation")
+	public String operation;
+}
@@ -0,0 +1,18 @@
+package com.example.demo.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 서명 엔진의 서명 / 검증
+ */
+@Name("com.example.demo.Cipher")
+@Label("JWS Cipher")
+public class CipherEvent extends JwsEvent {
+
+	@Label("Operation")
+	public String operation;
+
+	@Label("Algorithm")
+	public String alg;
+}
@@ -0,0 +1,21 @@
+package com.example.demo.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * credentialSubject 해시 (정규화 + SHA-256)
+ */
+@Name("com.example.demo.Digest")
+@Label("JWS Digest")
+@Description("credentialSubject 정규화 해시, 검증은 요청문 파싱을 포함")
+public class DigestEvent extends JwsEvent {
+
+	@Label("Operation")
+	public String operation;
+
+	@Label("Method")
+	@Description("canonical (RFC 8785 정규화) 또는 legacy (JSONObject 직렬화)")
+	public String method;
+}
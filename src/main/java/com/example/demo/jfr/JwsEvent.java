@@ -0,0 +1,65 @@
+package com.example.demo.jfr;
+
+import java.security.Key;
+import java.security.interfaces.ECKey;
+import java.security.interfaces.RSAKey;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * 토큰 발행 / 검증 단계별 JFR 이벤트의 공통 필드
+ * 기록 중이 아니면 begin / end / shouldCommit 이 JIT 에서 사라지므로 필드 계산(키 크기 등)은 shouldCommit 이 참일 때만 함
+ * 사용 예)
+ * <pre>
+ * DigestEvent event = new DigestEvent();
+ * event.begin();
+ * ...
+ * event.finish(claim.length(), privateKey);
+ * </pre>
+ * 운영에서는 jcmd &lt;pid&gt; JFR.start settings=profile 등으로 기록하고 JDK Mission Control 의 "JWS" 카테고리에서 확인
+ */
+@Category("JWS")
+@StackTrace(false)
+public abstract class JwsEvent extends jdk.jfr.Event {
+
+	@Label("Payload Size")
+	@Description("처리한 입력 크기 (바이트 또는 문자 수)")
+	protected int payloadSize;
+
+	@Label("Key Size")
+	@Description("키 크기 (bit), 키가 없는 단계는 0")
+	protected int keySize;
+
+	/**
+	 * 이벤트를 끝내고 기록 대상이면 크기를 채워 기록
+	 * @param payloadSize 입력 크기
+	 * @param key 사용한 키 (없으면 null)
+	 */
+	public final void finish(int payloadSize, Key key) {
+		end();
+		if (shouldCommit()) {
+			this.payloadSize = payloadSize;
+			this.keySize = keySize(key);
+			commit();
+		}
+	}
+
+	/**
+	 * 키 크기 (RSA 는 modulus, EC 는 order 의 bit 수, Ed25519 는 256)
+	 */
+	static int keySize(Key key) {
+		if (key instanceof RSAKey) {
+			return ((RSAKey) key).getModulus().bitLength();
+		}
+		if (key instanceof ECKey) {
+			return ((ECKey) key).getParams().getOrder().bitLength();
+		}
+		if (key != null && ("Ed25519".equals(key.getAlgorithm()) || "EdDSA".equals(key.getAlgorithm()))) {
+			return 256;
+		}
+		return 0;
+	}
+}
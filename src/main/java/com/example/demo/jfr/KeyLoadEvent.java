@@ -0,0 +1,23 @@
+package com.example.demo.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * RsaKeyGenerator 의 키 조회 (getPublicKey / getPrivateKey, 키 파일 읽기)
+ */
+@Name("com.example.demo.KeyLoad")
+@Label("JWS Key Load")
+@Description("키 조회, source 가 cache 면 캐시 적중, parse 면 캐시 미스로 파싱, file 이면 키 파일 읽기")
+public class KeyLoadEvent extends JwsEvent {
+
+	@Label("Source")
+	public String source;
+
+	@Label("Key Type")
+	public String keyType;
+
+	@Label("Key Algorithm")
+	public String keyAlgorithm;
+}
@@ -0,0 +1,20 @@
+package com.example.demo.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Base58 키 문자열을 KeyFactory 로 복원 (캐시 미스일 때만 발생)
+ */
+@Name("com.example.demo.KeyParse")
+@Label("JWS Key Parse")
+@Description("Base58 키 문자열을 KeyFactory 로 복원")
+public class KeyParseEvent extends JwsEvent {
+
+	@Label("Key Type")
+	public String keyType;
+
+	@Label("Key Algorithm")
+	public String keyAlgorithm;
+}
@@ -0,0 +1,12 @@
+package com.example.demo.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 응답 요청문의 JSON 쓰기 (pretty / compact)
+ */
+@Name("com.example.demo.PrettyPrint")
+@Label("JWS Pretty Print")
+public class PrettyPrintEvent extends JwsEvent {
+}
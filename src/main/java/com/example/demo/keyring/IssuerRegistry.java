@@ -0,0 +1,110 @@
+package com.example.demo.keyring;
+
+import com.example.demo.config.RsaKeyGenerator;
+import com.example.demo.config.VerifyProperties;
+import com.example.demo.util.Base58Util;
+import com.example.demo.util.CryptoPool;
+import com.example.demo.util.JwsMetrics;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.spec.InvalidKeySpecException;
+
+/**
+ * 발행자 공개키 디렉터리
+ * 공개키를 등록하면 짧은 kid 를 돌려주고, 요청문에는 Base58 공개키 대신 kid 를 담아 검증 시 파싱된 키를 바로 찾음
+ * kid 는 공개키 DER 의 SHA-256 앞 16바이트를 Base58 로 인코딩한 값이므로 같은 키는 항상 같은 kid 가 되고, 다른 키로 바뀌지 않음
+ * 등록된 키는 키링(KeyRing)에 저장하여 재시작 후에도 유지하며, 메모리에는 최근 사용한 kid 만 파싱된 PublicKey 로 보관
+ * (issuerCache.maximumSize, 키링에 먼저 저장된 키만 보관하므로 밀려나도 키링에서 다시 읽음)
+ * 재시작 후에는 처음 찾는 kid 만 키링에서 읽어 파싱하므로 시작 비용은 등록된 키 수와 상관없음
+ */
+@Slf4j
+@Component
+public class IssuerRegistry {
+
+	private static final int KID_BYTES = 16;
+
+	protected final KeyRing keyRing;
+	protected final RsaKeyGenerator rsaKeyGenerator;
+
+	/**
+	 * kid -> 파싱된 공개키, 키링에 저장된 키만 담음
+	 */
+	private final Cache<String, PublicKey> directory;
+
+	public IssuerRegistry(VerifyProperties verifyProperties, KeyRing keyRing, RsaKeyGenerator rsaKeyGenerator) {
+		this.keyRing = keyRing;
+		this.rsaKeyGenerator = rsaKeyGenerator;
+		this.directory = CacheBuilder.newBuilder()
+				.maximumSize(verifyProperties.getIssuerCacheMaximumSize())
+				.recordStats()
+				.build();
+		JwsMetrics.monitor(directory, "issuer");
+	}
+
+	/**
+	 * 공개키 등록, 이미 등록된 키면 같은 kid 를 리턴
+	 * @param publicKey Base58 로 인코딩된 공개키 (설정된 서명 알고리즘의 키)
+	 * @return kid
+	 */
+	public String register(String publicKey) throws IOException, NoSuchAlgorithmException, InvalidKeySpecException {
+		return register(rsaKeyGenerator.getPublicKey(publicKey));
+	}
+
+	/**
+	 * 파싱된 공개키 등록, 이미 등록된 키면 같은 kid 를 리턴
+	 * 키링에 저장한 뒤에 메모리에 보관하므로, 저장에 실패하면 등록되지 않은 상태로 남아 다시 등록할 수 있음
+	 * @return kid
+	 */
+	public String register(PublicKey publicKey) throws IOException, NoSuchAlgorithmException {
+		String kid = kidOf(publicKey);
+		if (directory.getIfPresent(kid) != null) {
+			return kid;
+		}
+		synchronized (this) {
+			if (keyRing.get(kid) == null) {
+				keyRing.put(kid, publicKey);
+				log.info("발행자 공개키를 등록하였습니다. (kid: {}, algorithm: {})", kid, publicKey.getAlgorithm());
+			}
+		}
+		directory.put(kid, publicKey);
+		return kid;
+	}
+
+	/**
+	 * kid 의 공개키, 메모리에 없으면 키링에서 읽어 보관
+	 * @throws InvalidKeySpecException 등록되지 않은 kid
+	 */
+	public PublicKey getPublicKey(String kid) throws IOException, NoSuchAlgorithmException, InvalidKeySpecException {
+		PublicKey publicKey = directory.getIfPresent(kid);
+		if (publicKey != null) {
+			return publicKey;
+		}
+		publicKey = keyRing.getPublicKey(kid);
+		if (publicKey == null) {
+			throw new InvalidKeySpecException("등록되지 않은 kid 입니다: " + kid);
+		}
+		directory.put(kid, publicKey);
+		return publicKey;
+	}
+
+	/**
+	 * 등록된 발행자 수
+	 */
+	public int size() throws IOException {
+		return keyRing.size();
+	}
+
+	/**
+	 * 공개키의 kid, Base58(SHA-256(DER) 앞 16바이트)
+	 */
+	public static String kidOf(PublicKey publicKey) throws NoSuchAlgorithmException {
+		byte[] digest = CryptoPool.digest("SHA-256").digest(publicKey.getEncoded());
+		return Base58Util.encode(digest, 0, KID_BYTES);
+	}
+}
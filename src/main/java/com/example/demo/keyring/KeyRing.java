@@ -0,0 +1,571 @@
+package com.example.demo.keyring;
+
+import com.example.demo.config.VerifyProperties;
+import com.example.demo.util.CryptoPool;
+import com.google.common.hash.Hashing;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.Key;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 키 아이디(kid)로 찾는 바이너리 키링
+ * 키 페어 경로(keyPair.path) 에 두 파일을 둠
+ * - keyring.dat : DER 키 레코드를 뒤에 붙이기만 하는 파일, 기존 내용은 다시 쓰지 않음
+ * - keyring-{capacity}.idx : kid 해시 -> 레코드 위치의 오픈 어드레싱 해시 테이블, 메모리 매핑하여 그대로 조회
+ * 처음 조회할 때 두 파일을 매핑만 하므로 키 수와 상관없이 시작 비용이 일정하고, 조회는 슬롯 몇 개와 레코드 하나만 읽음
+ * 인덱스가 가득 차면(적재율 1/2) 두 배 크기의 인덱스 파일을 새로 만들고, 데이터 파일은 그대로 둠
+ * 인덱스에 반영되지 않은 데이터 파일 끝의 레코드는 열 때 다시 색인하고, 쓰다 끊긴 레코드는 잘라냄
+ * 데이터 파일은 추가할 때마다 다시 매핑하지 않도록 두 배씩 0 으로 늘려 매핑하고, 길이가 0 인 레코드를 끝으로 봄 (닫을 때 잘라냄)
+ *
+ * 레코드: u32 길이 | u8 종류(0 공개키 X.509, 1 개인키 PKCS#8) | u16 kid 길이 | kid (UTF-8) | u16 알고리즘 길이 | 알고리즘
+ *        | u32 DER 길이 | DER | u32 CRC32 (종류부터 DER 까지)
+ * 한 파일을 한 번에 매핑하므로 데이터 파일은 2GB 까지 사용
+ */
+@Slf4j
+@Component
+public class KeyRing implements DisposableBean {
+
+	private static final String DATA_FILE = "keyring.dat";
+	private static final String INDEX_PREFIX = "keyring-";
+	private static final String INDEX_SUFFIX = ".idx";
+
+	/**
+	 * "JWSKRDAT", "JWSKRIDX"
+	 */
+	private static final long DATA_MAGIC = 0x4A57534B52444154L;
+	private static final long INDEX_MAGIC = 0x4A57534B52494458L;
+	private static final int VERSION = 1;
+
+	/**
+	 * 데이터 파일 헤더: magic(8) | version(4)
+	 */
+	private static final int DATA_HEADER = 12;
+
+	/**
+	 * 인덱스 파일 헤더: magic(8) | capacity(4) | count(4) | 색인된 데이터 길이(8), 슬롯: kid 해시(8, 0 이면 빈 슬롯) | 위치(8)
+	 */
+	private static final int INDEX_HEADER = 24;
+	private static final int CAPACITY_OFFSET = 8;
+	private static final int COUNT_OFFSET = 12;
+	private static final int INDEXED_LENGTH_OFFSET = 16;
+	private static final int SLOT_SIZE = 16;
+
+	/**
+	 * 인덱스 슬롯을 잠금 없이 읽고 쓰기 위한 long 뷰, 슬롯은 8바이트 경계에 있음
+	 * 쓰는 쪽은 위치를 먼저 쓰고 해시를 release 로 써서 슬롯을 공개하고, 읽는 쪽은 해시를 acquire 로 읽어
+	 * 해시가 보이면 그 전에 쓴 위치도 보이도록 함 (MappedByteBuffer 의 putLong / getLong 은 순서를 보장하지 않음)
+	 */
+	private static final VarHandle SLOT = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+	/**
+	 * 레코드 본문 중 가변 길이를 뺀 크기: 종류(1) + kid 길이(2) + 알고리즘 길이(2) + DER 길이(4) + CRC(4)
+	 */
+	private static final int RECORD_FIXED = 13;
+
+	/**
+	 * 데이터 파일을 처음 늘려 매핑하는 크기
+	 */
+	private static final long MIN_DATA_MAPPING = 64 * 1024;
+
+	protected final VerifyProperties verifyProperties;
+
+	/**
+	 * 지금 사용하는 인덱스, 처음 사용할 때 염
+	 */
+	private volatile IndexFile index;
+
+	/**
+	 * 데이터 파일 매핑, 레코드가 추가되어 범위를 넘으면 다시 매핑
+	 */
+	private volatile MappedByteBuffer data;
+
+	private FileChannel dataChannel;
+
+	/**
+	 * 데이터 파일에서 레코드가 끝나는 위치 (다음 레코드를 쓸 위치), 그 뒤는 0 으로 채운 여유 공간
+	 */
+	private long dataLength;
+
+	public KeyRing(VerifyProperties verifyProperties) {
+		this.verifyProperties = verifyProperties;
+	}
+
+	@Override
+	public synchronized void destroy() throws IOException {
+		if (dataChannel != null) {
+			try {
+				dataChannel.truncate(dataLength);
+			} catch (IOException e) {
+				// 매핑 중인 파일을 줄일 수 없는 OS 에서는 여유 공간을 남기고 다음에 열 때 잘라냄
+				log.debug("키링 파일의 여유 공간을 잘라내지 못하였습니다.", e);
+			}
+			dataChannel.close();
+			dataChannel = null;
+		}
+		index = null;
+		data = null;
+	}
+
+	/**
+	 * 키링의 공개키
+	 * @return 없으면 null
+	 * @throws InvalidKeySpecException 개인키로 저장된 kid 이거나 DER 이 잘못된 경우
+	 */
+	public PublicKey getPublicKey(String kid) throws IOException, NoSuchAlgorithmException, InvalidKeySpecException {
+		KeyRingEntry entry = get(kid);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.privateKey) {
+			throw new InvalidKeySpecException(kid + " 는 개인키입니다.");
+		}
+		return CryptoPool.keyFactory(entry.keyAlgorithm).generatePublic(new X509EncodedKeySpec(entry.encoded));
+	}
+
+	/**
+	 * 키링의 개인키
+	 * @return 없으면 null
+	 * @throws InvalidKeySpecException 공개키로 저장된 kid 이거나 DER 이 잘못된 경우
+	 */
+	public PrivateKey getPrivateKey(String kid) throws IOException, NoSuchAlgorithmException, InvalidKeySpecException {
+		KeyRingEntry entry = get(kid);
+		if (entry == null) {
+			return null;
+		}
+		if (!entry.privateKey) {
+			throw new InvalidKeySpecException(kid + " 는 공개키입니다.");
+		}
+		return CryptoPool.keyFactory(entry.keyAlgorithm).generatePrivate(new PKCS8EncodedKeySpec(entry.encoded));
+	}
+
+	/**
+	 * kid 로 레코드를 찾음, 같은 kid 가 여러 번 추가되었다면 마지막 레코드
+	 * @return 없으면 null
+	 */
+	public KeyRingEntry get(String kid) throws IOException {
+		IndexFile current = index();
+		long hash = hash(kid);
+		int mask = current.capacity - 1;
+		for (int slot = (int) hash & mask; ; slot = (slot + 1) & mask) {
+			int position = INDEX_HEADER + slot * SLOT_SIZE;
+			long slotHash = (long) SLOT.getAcquire(current.buffer, position);
+			if (slotHash == 0) {
+				return null;
+			}
+			if (slotHash == hash) {
+				KeyRingEntry entry = read((long) SLOT.getAcquire(current.buffer, position + 8));
+				if (entry.kid.equals(kid)) {
+					return entry;
+				}
+			}
+		}
+	}
+
+	/**
+	 * 키를 데이터 파일 끝에 추가하고 색인, 같은 kid 가 있으면 새 레코드로 바꿈 (이전 레코드는 파일에 남음)
+	 * @param kid 키 아이디
+	 * @param key 공개키 또는 개인키
+	 */
+	public synchronized void put(String kid, Key key) throws IOException {
+		IndexFile current = index();
+		ByteBuffer record = encode(kid, key instanceof PrivateKey, key.getAlgorithm(), key.getEncoded());
+		long offset = dataLength;
+		long indexedLength = offset + record.remaining();
+		if (indexedLength > Integer.MAX_VALUE) {
+			throw new IOException("키링 파일이 2GB 를 넘어 더 추가할 수 없습니다.");
+		}
+		mapData(indexedLength);
+		write(record, offset);
+		dataChannel.force(false);
+		dataLength = indexedLength;
+
+		if (insert(current, hash(kid), offset, kid)) {
+			current = growIfFull(current);
+		}
+		current.buffer.putLong(INDEXED_LENGTH_OFFSET, indexedLength);
+		current.buffer.force();
+	}
+
+	/**
+	 * 키링의 kid 수
+	 */
+	public int size() throws IOException {
+		return index().buffer.getInt(COUNT_OFFSET);
+	}
+
+	private IndexFile index() throws IOException {
+		IndexFile current = index;
+		if (current != null) {
+			return current;
+		}
+		synchronized (this) {
+			if (index == null) {
+				open();
+			}
+			return index;
+		}
+	}
+
+	/**
+	 * 데이터 파일과 가장 큰 인덱스를 열고, 인덱스에 없는 끝부분만 색인
+	 */
+	private void open() throws IOException {
+		Path directory = Paths.get(verifyProperties.getPath());
+		Files.createDirectories(directory);
+		dataChannel = FileChannel.open(directory.resolve(DATA_FILE),
+				StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		if (dataChannel.size() == 0) {
+			ByteBuffer header = ByteBuffer.allocate(DATA_HEADER);
+			header.putLong(DATA_MAGIC).putInt(VERSION).flip();
+			write(header, 0);
+			dataChannel.force(false);
+		} else {
+			ByteBuffer header = read(0, DATA_HEADER);
+			if (header == null || header.getLong() != DATA_MAGIC || header.getInt() != VERSION) {
+				throw new IOException(directory.resolve(DATA_FILE) + " 는 키링 파일이 아닙니다.");
+			}
+		}
+
+		IndexFile current = openLatestIndex(directory);
+		if (current == null) {
+			current = createIndex(directory, initialCapacity(), null);
+		}
+		current = catchUp(current);
+		index = current;
+		log.info("키링을 열었습니다. (keys: {}, index capacity: {})", current.buffer.getInt(COUNT_OFFSET), current.capacity);
+	}
+
+	/**
+	 * 인덱스에 반영되지 않은 데이터 파일 끝의 레코드를 색인, 쓰다 끊긴 레코드부터는 잘라냄
+	 */
+	private IndexFile catchUp(IndexFile current) throws IOException {
+		long offset = Math.max(current.buffer.getLong(INDEXED_LENGTH_OFFSET), DATA_HEADER);
+		long size = dataChannel.size();
+		List<long[]> tail = new ArrayList<>();
+		List<String> kids = new ArrayList<>();
+		while (offset < size) {
+			ByteBuffer length = read(offset, 4);
+			int recordLength = length != null ? length.getInt() : -1;
+			if (recordLength == 0) {
+				// 늘려 둔 여유 공간
+				dataChannel.truncate(offset);
+				break;
+			}
+			// 길이가 깨져 파일 끝을 넘으면 읽기 전에 완전하지 않은 레코드로 봄 (최대 2GB 를 할당하지 않도록)
+			ByteBuffer body = recordLength >= RECORD_FIXED && recordLength <= size - offset - 4
+					? read(offset + 4, recordLength) : null;
+			KeyRingEntry entry;
+			try {
+				entry = body != null ? decode(body, 0, recordLength) : null;
+			} catch (IOException e) {
+				entry = null;
+			}
+			if (entry == null) {
+				log.warn("키링 파일 끝의 완전하지 않은 레코드를 잘라냅니다. (offset: {}, size: {})", offset, size);
+				dataChannel.truncate(offset);
+				dataChannel.force(false);
+				break;
+			}
+			tail.add(new long[] {hash(entry.kid), offset});
+			kids.add(entry.kid);
+			offset += 4 + recordLength;
+		}
+
+		dataLength = offset;
+		mapData(offset);
+		for (int i = 0; i < tail.size(); i++) {
+			if (insert(current, tail.get(i)[0], tail.get(i)[1], kids.get(i))) {
+				current = growIfFull(current);
+			}
+		}
+		if (!tail.isEmpty()) {
+			log.info("키링 인덱스에 {} 건을 추가로 색인하였습니다.", tail.size());
+		}
+		current.buffer.putLong(INDEXED_LENGTH_OFFSET, offset);
+		current.buffer.force();
+		return current;
+	}
+
+	/**
+	 * 슬롯에 위치를 씀, 다른 스레드가 잠금 없이 조회 중일 수 있으므로 위치를 먼저 쓰고 해시를 release 로 써서 공개
+	 * @return 새 kid 면 true, 기존 kid 를 바꾸었으면 false
+	 */
+	private boolean insert(IndexFile current, long hash, long offset, String kid) throws IOException {
+		int mask = current.capacity - 1;
+		for (int slot = (int) hash & mask; ; slot = (slot + 1) & mask) {
+			int position = INDEX_HEADER + slot * SLOT_SIZE;
+			long slotHash = current.buffer.getLong(position);
+			if (slotHash == 0) {
+				current.buffer.putLong(position + 8, offset);
+				SLOT.setRelease(current.buffer, position, hash);
+				current.buffer.putInt(COUNT_OFFSET, current.buffer.getInt(COUNT_OFFSET) + 1);
+				return true;
+			}
+			if (slotHash == hash && read(current.buffer.getLong(position + 8)).kid.equals(kid)) {
+				SLOT.setRelease(current.buffer, position + 8, offset);
+				return false;
+			}
+		}
+	}
+
+	/**
+	 * 적재율이 1/2 을 넘으면 두 배 크기의 인덱스 파일로 옮김, 슬롯의 해시와 위치만 옮기므로 데이터 파일은 읽지 않음
+	 */
+	private IndexFile growIfFull(IndexFile current) throws IOException {
+		if (current.buffer.getInt(COUNT_OFFSET) * 2L <= current.capacity) {
+			return current;
+		}
+		IndexFile grown = createIndex(current.path.getParent(), current.capacity * 2, current);
+		index = grown;
+		try {
+			Files.deleteIfExists(current.path);
+		} catch (IOException e) {
+			// 매핑 중인 파일을 지울 수 없는 OS 에서는 다음에 열 때 지움
+			log.debug("이전 키링 인덱스를 지우지 못하였습니다. ({})", current.path, e);
+		}
+		return grown;
+	}
+
+	/**
+	 * 인덱스 파일 생성, from 이 있으면 그 슬롯을 옮겨 담음
+	 * magic 은 마지막에 써서 만들다 끊긴 파일은 열 때 무시되도록 함
+	 */
+	private IndexFile createIndex(Path directory, int capacity, IndexFile from) throws IOException {
+		Path path = directory.resolve(INDEX_PREFIX + capacity + INDEX_SUFFIX);
+		MappedByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+				StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, INDEX_HEADER + (long) capacity * SLOT_SIZE);
+		}
+		buffer.putInt(CAPACITY_OFFSET, capacity);
+		int count = 0;
+		long indexedLength = DATA_HEADER;
+		if (from != null) {
+			int mask = capacity - 1;
+			for (int i = 0; i < from.capacity; i++) {
+				long hash = from.buffer.getLong(INDEX_HEADER + i * SLOT_SIZE);
+				if (hash == 0) {
+					continue;
+				}
+				int slot = (int) hash & mask;
+				while (buffer.getLong(INDEX_HEADER + slot * SLOT_SIZE) != 0) {
+					slot = (slot + 1) & mask;
+				}
+				buffer.putLong(INDEX_HEADER + slot * SLOT_SIZE + 8, from.buffer.getLong(INDEX_HEADER + i * SLOT_SIZE + 8));
+				buffer.putLong(INDEX_HEADER + slot * SLOT_SIZE, hash);
+				count++;
+			}
+			indexedLength = from.buffer.getLong(INDEXED_LENGTH_OFFSET);
+		}
+		buffer.putInt(COUNT_OFFSET, count);
+		buffer.putLong(INDEXED_LENGTH_OFFSET, indexedLength);
+		buffer.force();
+		buffer.putLong(0, INDEX_MAGIC);
+		buffer.force();
+		return new IndexFile(path, buffer, capacity);
+	}
+
+	/**
+	 * 정상적으로 만들어진 인덱스 중 가장 큰 것을 열고 나머지는 지움
+	 */
+	private IndexFile openLatestIndex(Path directory) throws IOException {
+		IndexFile latest = null;
+		List<Path> stale = new ArrayList<>();
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, INDEX_PREFIX + "*" + INDEX_SUFFIX)) {
+			for (Path path : files) {
+				IndexFile candidate = mapIndex(path);
+				if (candidate == null || (latest != null && latest.capacity >= candidate.capacity)) {
+					stale.add(path);
+				} else {
+					if (latest != null) {
+						stale.add(latest.path);
+					}
+					latest = candidate;
+				}
+			}
+		}
+		for (Path path : stale) {
+			try {
+				Files.deleteIfExists(path);
+			} catch (IOException e) {
+				log.debug("사용하지 않는 키링 인덱스를 지우지 못하였습니다. ({})", path, e);
+			}
+		}
+		return latest;
+	}
+
+	private static IndexFile mapIndex(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			long size = channel.size();
+			if (size < INDEX_HEADER) {
+				return null;
+			}
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+			int capacity = buffer.getInt(CAPACITY_OFFSET);
+			if (buffer.getLong(0) != INDEX_MAGIC || Integer.bitCount(capacity) != 1
+					|| size != INDEX_HEADER + (long) capacity * SLOT_SIZE) {
+				return null;
+			}
+			return new IndexFile(path, buffer, capacity);
+		}
+	}
+
+	private int initialCapacity() {
+		int capacity = Math.max(16, verifyProperties.getKeyRingInitialCapacity());
+		return Integer.bitCount(capacity) == 1 ? capacity : Integer.highestOneBit(capacity) << 1;
+	}
+
+	/**
+	 * 위치의 레코드를 읽음, 매핑 범위를 넘으면 다시 매핑
+	 */
+	private KeyRingEntry read(long offset) throws IOException {
+		MappedByteBuffer current = data;
+		if (current == null || offset + 4 > current.limit()
+				|| offset + 4 + current.getInt((int) offset) > current.limit()) {
+			current = mapData(dataChannel.size());
+		}
+		int position = (int) offset;
+		return decode(current, position + 4, current.getInt(position));
+	}
+
+	/**
+	 * 데이터 파일을 length 까지 읽을 수 있도록 매핑
+	 * 처음에는 length 만큼, 이후 짧아지면 두 배 (최소 MIN_DATA_MAPPING, 최대 2GB) 로 늘려 다시 매핑하고 파일 끝을 0 으로 늘림
+	 */
+	private synchronized MappedByteBuffer mapData(long length) throws IOException {
+		MappedByteBuffer current = data;
+		if (current == null || current.limit() < length) {
+			long size = current == null ? length : Math.min(Math.max(length,
+					Math.max(MIN_DATA_MAPPING, 2L * current.limit())), Integer.MAX_VALUE);
+			if (dataChannel.size() < size) {
+				write(ByteBuffer.allocate(1), size - 1);
+			}
+			current = dataChannel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+			data = current;
+		}
+		return current;
+	}
+
+	/**
+	 * 채널의 position 부터 length 바이트를 읽음, 파일이 짧으면 null
+	 */
+	private ByteBuffer read(long position, int length) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(length);
+		while (buffer.hasRemaining()) {
+			if (dataChannel.read(buffer, position + buffer.position()) < 0) {
+				return null;
+			}
+		}
+		buffer.flip();
+		return buffer;
+	}
+
+	private void write(ByteBuffer buffer, long position) throws IOException {
+		long start = position - buffer.position();
+		while (buffer.hasRemaining()) {
+			dataChannel.write(buffer, start + buffer.position());
+		}
+	}
+
+	private static ByteBuffer encode(String kid, boolean privateKey, String keyAlgorithm, byte[] encoded) {
+		byte[] kidBytes = kid.getBytes(StandardCharsets.UTF_8);
+		byte[] algorithmBytes = keyAlgorithm.getBytes(StandardCharsets.UTF_8);
+		if (kidBytes.length > 0xffff || algorithmBytes.length > 0xffff) {
+			throw new IllegalArgumentException("kid 가 너무 깁니다: " + kid);
+		}
+		int bodyLength = RECORD_FIXED + kidBytes.length + algorithmBytes.length + encoded.length;
+		ByteBuffer record = ByteBuffer.allocate(4 + bodyLength);
+		record.putInt(bodyLength)
+				.put((byte) (privateKey ? 1 : 0))
+				.putShort((short) kidBytes.length).put(kidBytes)
+				.putShort((short) algorithmBytes.length).put(algorithmBytes)
+				.putInt(encoded.length).put(encoded);
+		CRC32 crc = new CRC32();
+		crc.update(record.array(), 4, bodyLength - 4);
+		record.putInt((int) crc.getValue());
+		record.flip();
+		return record;
+	}
+
+	/**
+	 * 레코드 본문 (길이 필드 다음부터) 을 읽음
+	 * @throws IOException CRC 나 길이가 맞지 않는 경우
+	 */
+	private static KeyRingEntry decode(ByteBuffer buffer, int position, int length) throws IOException {
+		if (length < RECORD_FIXED || position + length > buffer.limit()) {
+			throw new IOException("키링 레코드가 손상되었습니다. (position: " + position + ")");
+		}
+		ByteBuffer record = buffer.duplicate();
+		record.position(position);
+		record.limit(position + length - 4);
+		CRC32 crc = new CRC32();
+		crc.update(record.duplicate());
+		if ((int) crc.getValue() != buffer.getInt(position + length - 4)) {
+			throw new IOException("키링 레코드의 CRC 가 맞지 않습니다. (position: " + position + ")");
+		}
+		try {
+			boolean privateKey = record.get() == 1;
+			String kid = readString(record, record.getShort() & 0xffff);
+			String keyAlgorithm = readString(record, record.getShort() & 0xffff);
+			byte[] encoded = new byte[record.getInt()];
+			record.get(encoded);
+			return new KeyRingEntry(kid, privateKey, keyAlgorithm, encoded);
+		} catch (BufferUnderflowException | NegativeArraySizeException e) {
+			throw new IOException("키링 레코드가 손상되었습니다. (position: " + position + ")", e);
+		}
+	}
+
+	private static String readString(ByteBuffer record, int length) {
+		byte[] bytes = new byte[length];
+		record.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * kid 의 64비트 해시, 0 은 빈 슬롯 표시이므로 사용하지 않음
+	 */
+	private static long hash(String kid) {
+		long hash = Hashing.murmur3_128().hashString(kid, StandardCharsets.UTF_8).asLong();
+		return hash != 0 ? hash : 1;
+	}
+
+	/**
+	 * 매핑된 인덱스 파일
+	 */
+	private static final class IndexFile {
+		private final Path path;
+		private final MappedByteBuffer buffer;
+		private final int capacity;
+
+		private IndexFile(Path path, MappedByteBuffer buffer, int capacity) {
+			this.path = path;
+			this.buffer = buffer;
+			this.capacity = capacity;
+		}
+	}
+}
@@ -0,0 +1,32 @@
+package com.example.demo.keyring;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 키링에 저장된 키 한 건 (DER 그대로)
+ */
+@Getter
+@AllArgsConstructor
+public class KeyRingEntry {
+
+	/**
+	 * 키 아이디
+	 */
+	protected final String kid;
+
+	/**
+	 * 공개키(X.509) 면 false, 개인키(PKCS#8) 면 true
+	 */
+	protected final boolean privateKey;
+
+	/**
+	 * KeyFactory 알고리즘 (RSA, EC, Ed25519)
+	 */
+	protected final String keyAlgorithm;
+
+	/**
+	 * DER 인코딩된 키
+	 */
+	protected final byte[] encoded;
+}
@@ -50,4 +50,10 @@ public class Request {
 					"aYozAtoqNU5JWZJ1j9Wsruc8W7UgZKo8kwpsKovk7cYPsXw4P65DRyrJXF5h15tnWSa6mdozgCU8SsZ8SbMFdDaQBJTLSndZ" +
 					"YtJoxLyWAyHeQvSft4PyMk8He23Jmb9Y")
 	protected String privateKey;
+
+	/**
+	 * 등록된 발행자 kid, 있으면 요청문에 publicKey 대신 kid 를 담음 (publicKey 는 무시)
+	 */
+	@Schema(description = "등록된 발행자 kid (있으면 요청문에 publicKey 대신 kid 를 담음)")
+	protected String kid;
 }
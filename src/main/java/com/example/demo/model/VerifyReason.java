@@ -0,0 +1,23 @@
+package com.example.demo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 검증 결과 사유
+ */
+@Getter
+@AllArgsConstructor
+public enum VerifyReason {
+	SUCCESS("검증 성공하였습니다."),
+	HASH_MISMATCH("검증 실패하였습니다."),
+	MALFORMED_MESSAGE("요청문 형식이 올바르지 않습니다."),
+	INVALID_KEY("공개키 형식이 올바르지 않습니다."),
+	INVALID_SIGNATURE("서명 형식이 올바르지 않습니다."),
+	ERROR("검증 중 오류가 발생하였습니다.");
+
+	/**
+	 * 사유 메시지
+	 */
+	private final String message;
+}
@@ -0,0 +1,42 @@
+package com.example.demo.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 요청문 검증 결과 (일괄 검증의 한 건)
+ */
+@Schema(description = "검증 결과")
+@Data
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VerifyResult {
+
+	/**
+	 * 일괄 요청 안에서의 순번 (0부터 시작)
+	 */
+	@Schema(description = "순번", example = "0")
+	protected int index;
+
+	/**
+	 * 검증 성공 여부
+	 */
+	@Schema(description = "검증 성공 여부", example = "true")
+	protected boolean valid;
+
+	/**
+	 * 사유 코드
+	 */
+	@Schema(description = "사유 코드", example = "SUCCESS")
+	protected VerifyReason reason;
+
+	/**
+	 * 사유 메시지
+	 */
+	@Schema(description = "사유 메시지", example = "검증 성공하였습니다.")
+	protected String message;
+}
@@ -0,0 +1,1190 @@
+package com.example.demo.service;
+
+import com.example.demo.config.CryptoExecutor;
+import com.example.demo.config.RsaKeyGenerator;
+import com.example.demo.config.VerifyProperties;
+import com.example.demo.jfr.Base58Event;
+import com.example.demo.jfr.CipherEvent;
+import com.example.demo.jfr.DigestEvent;
+import com.example.demo.jfr.PrettyPrintEvent;
+import com.example.demo.keyring.IssuerRegistry;
+import com.example.demo.model.Request;
+import com.example.demo.model.VerifyReason;
+import com.example.demo.model.VerifyResult;
+import com.example.demo.signature.SignatureEngine;
+import com.example.demo.signature.SignatureEngines;
+import com.example.demo.util.Base58Util;
+import com.example.demo.util.ByteUtil;
+import com.example.demo.util.CanonicalJson;
+import com.example.demo.util.CryptoPool;
+import com.example.demo.util.JsonUtil;
+import com.example.demo.util.JwsMetrics;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.HashCode;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.BadPaddingException;
+import javax.crypto.IllegalBlockSizeException;
+import javax.crypto.NoSuchPaddingException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.InvalidKeyException;
+import java.security.KeyPair;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SignatureException;
+import java.security.interfaces.RSAKey;
+import java.security.spec.InvalidKeySpecException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+/**
+ * JWS 토큰 발행 / 검증 서비스
+ */
+@Slf4j
+@Service
+public class JwsService {
+
+	/**
+	 * 요청문에 검증 키를 담는 필드, Base58 공개키 또는 등록된 발행자 kid
+	 */
+	public static final String PUBLIC_KEY_FIELD = "publicKey";
+	public static final String KID_FIELD = "kid";
+
+	private static final ObjectWriter RESULT_WRITER = JsonUtil.OBJECT_MAPPER.writer();
+
+	/**
+	 * 검증 결과 캐시 키의 구분 바이트 (요청문 형식, 키 종류)
+	 */
+	private static final byte CACHE_KEY_PUBLIC_KEY = 0;
+	private static final byte CACHE_KEY_KID = 1;
+	private static final byte CACHE_KEY_CBOR_PUBLIC_KEY = 2;
+	private static final byte CACHE_KEY_CBOR_KID = 3;
+
+	/**
+	 * CBOR 요청문에서 claim 외에 쓰는 크기 (필드 이름, 공개키, 해시, 서명) 의 예상치, 출력 버퍼 초기 크기
+	 */
+	private static final int CBOR_OVERHEAD = 512;
+
+	/**
+	 * 개인키와 kid 의 공개키가 짝인지 확인할 때 서명하는 값 (RSA 가 아닌 키)
+	 */
+	private static final byte[] KEY_PAIR_PROBE = "key-pair-probe".getBytes(StandardCharsets.US_ASCII);
+
+	/**
+	 * SHA-256 해시의 16진수 ASCII 를 담는 스레드별 버퍼, 매 요청마다 문자열을 만들지 않도록 재사용
+	 */
+	private static final ThreadLocal<byte[]> HEX_BUFFER = ThreadLocal.withInitial(() -> new byte[64]);
+
+	/**
+	 * 단계별 타이머 (JwsMetrics)
+	 */
+	private static final Timer CREATE_JSON_PARSE = JwsMetrics.stage("create", "json_parse");
+	private static final Timer CREATE_CANONICAL_DIGEST = JwsMetrics.stage("create", "canonical_digest");
+	private static final Timer CREATE_ENCODE = JwsMetrics.stage("create", "encode");
+	private static final Timer CREATE_SIGN = JwsMetrics.stage("create", "sign");
+	private static final Timer CREATE_WRITE = JwsMetrics.stage("create", "write");
+	private static final Timer VERIFY_PARSE_DIGEST = JwsMetrics.stage("verify", "parse_canonical_digest");
+	private static final Timer VERIFY_LEGACY_DIGEST = JwsMetrics.stage("verify", "legacy_digest");
+	private static final Timer VERIFY_CACHE_LOOKUP = JwsMetrics.stage("verify", "cache_lookup");
+	private static final Timer VERIFY_ENCODE = JwsMetrics.stage("verify", "encode");
+	private static final Timer VERIFY_KEY = JwsMetrics.stage("verify", "key_resolve");
+	private static final Timer VERIFY_KID = JwsMetrics.stage("verify", "kid_resolve");
+	private static final Timer VERIFY_SIGNATURE = JwsMetrics.stage("verify", "signature");
+
+	protected final VerifyProperties verifyProperties;
+	protected final RsaKeyGenerator rsaKeyGenerator;
+	protected final CryptoExecutor cryptoExecutor;
+	protected final IssuerRegistry issuerRegistry;
+
+	/**
+	 * 발행에 사용할 서명 엔진 (검증은 토큰 header 의 alg 로 엔진을 찾음)
+	 */
+	protected final SignatureEngine signatureEngine;
+
+	/**
+	 * 검증 성공 결과 캐시, digest(credentialSubject 해시, jws, publicKey 또는 kid) -> 성공
+	 * 같은 요청문이 재시도 / 여러 서비스로 전달되어 반복 검증되는 경우 해시 이후의 키 파싱, 서명 검증을 생략
+	 * 실패한 검증은 캐시하지 않음, verifyCache.maximumSize 가 0 이면 null
+	 */
+	protected final Cache<HashCode, Boolean> verifyCache;
+
+	public JwsService(VerifyProperties verifyProperties, RsaKeyGenerator rsaKeyGenerator,
+					  CryptoExecutor cryptoExecutor, IssuerRegistry issuerRegistry) {
+		this.verifyProperties = verifyProperties;
+		this.rsaKeyGenerator = rsaKeyGenerator;
+		this.cryptoExecutor = cryptoExecutor;
+		this.issuerRegistry = issuerRegistry;
+		this.signatureEngine = rsaKeyGenerator.getSignatureEngine();
+		this.verifyCache = verifyProperties.getVerifyCacheMaximumSize() > 0 ? CacheBuilder.newBuilder()
+				.maximumSize(verifyProperties.getVerifyCacheMaximumSize())
+				.expireAfterWrite(verifyProperties.getVerifyCacheTtlSeconds(), TimeUnit.SECONDS)
+				.recordStats()
+				.build() : null;
+		if (verifyCache != null) {
+			JwsMetrics.monitor(verifyCache, "verifyResult");
+		}
+	}
+
+	/**
+	 * 검증 결과 캐시 통계 (hit / miss / eviction), 캐시를 사용하지 않으면 빈 통계
+	 */
+	public CacheStats getVerifyCacheStats() {
+		return verifyCache != null ? verifyCache.stats() : new CacheStats(0, 0, 0, 0, 0, 0);
+	}
+
+	/**
+	 * 서명에 사용할 키 페어를 정함, 요청에 키가 없으면 서버 키로 채우고 개인키를 파싱하여 리턴
+	 * kid 가 있으면 공개키 대신 kid 를 요청문에 담으므로 개인키만 있으면 되고, 등록된 kid 인지와 개인키가 그 공개키의 짝인지 확인
+	 * 개인키 없이 kid 만 있으면 서버 키의 kid 일 때만 서버 개인키로 서명
+	 * @param keyPair 요청 키 페어
+	 * @return 파싱된 개인키
+	 * @throws InvalidKeySpecException 키 형식이 잘못되었거나, 등록되지 않은 kid 이거나, 개인키가 kid 의 공개키와 맞지 않음
+	 */
+	public PrivateKey resolvePrivateKey(Request keyPair) throws IOException, NoSuchAlgorithmException,
+			InvalidKeySpecException {
+		String kid = keyPair.getKid();
+		if (kid != null) {
+			PublicKey registered = issuerRegistry.getPublicKey(kid);
+			if (keyPair.getPrivateKey() == null) {
+				if (!kid.equals(IssuerRegistry.kidOf(rsaKeyGenerator.getPublicKey()))) {
+					throw new InvalidKeySpecException("kid 로 발행하려면 그 kid 의 개인키가 필요합니다: " + kid);
+				}
+				keyPair.setPrivateKey(rsaKeyGenerator.getPrivateKeyText());
+				return rsaKeyGenerator.getPrivateKey();
+			}
+			PrivateKey privateKey = rsaKeyGenerator.getPrivateKey(keyPair.getPrivateKey());
+			checkKeyPair(kid, registered, privateKey);
+			return privateKey;
+		}
+		if(keyPair.getPrivateKey() == null || keyPair.getPublicKey() == null) {
+			keyPair.setPublicKey(rsaKeyGenerator.getPublicKeyText());
+			keyPair.setPrivateKey(rsaKeyGenerator.getPrivateKeyText());
+		}
+		return rsaKeyGenerator.getPrivateKey(keyPair.getPrivateKey());
+	}
+
+	/**
+	 * 개인키가 kid 로 등록된 공개키의 짝인지 확인, 다른 키로 서명하면 kid 로 검증할 수 없는 토큰이 발행됨
+	 * RSA 는 modulus 를 비교하고, 그 밖의 알고리즘은 짧은 값을 서명하여 공개키로 검증
+	 * @throws InvalidKeySpecException 짝이 아닌 경우
+	 */
+	private void checkKeyPair(String kid, PublicKey publicKey, PrivateKey privateKey) throws NoSuchAlgorithmException,
+			InvalidKeySpecException {
+		boolean matches;
+		if (publicKey instanceof RSAKey && privateKey instanceof RSAKey) {
+			matches = ((RSAKey) publicKey).getModulus().equals(((RSAKey) privateKey).getModulus());
+		} else {
+			try {
+				matches = signatureEngine.verify(KEY_PAIR_PROBE, signatureEngine.sign(KEY_PAIR_PROBE, privateKey),
+						publicKey);
+			} catch (NoSuchAlgorithmException e) {
+				throw e;
+			} catch (GeneralSecurityException e) {
+				matches = false;
+			}
+		}
+		if (!matches) {
+			throw new InvalidKeySpecException("개인키가 kid 로 등록된 공개키와 맞지 않습니다: " + kid);
+		}
+	}
+
+	/**
+	 * JWS 토큰 발행
+	 * @param keyPair 서명 키 페어 (없으면 서버 키), kid 가 있으면 요청문에 publicKey 대신 kid 를 담음
+	 * @param claim credentialSubject
+	 * @return JWS 가 발급된 요청문
+	 */
+	public JSONObject createReqMsg(Request keyPair, String claim) throws IOException, NoSuchPaddingException,
+			IllegalBlockSizeException, NoSuchAlgorithmException, InvalidKeySpecException, BadPaddingException,
+			InvalidKeyException, SignatureException, JSONException {
+		return crypto(() -> {
+			PrivateKey privateKey = resolvePrivateKey(keyPair);
+			return create(keyField(keyPair), keyValue(keyPair), privateKey, claim);
+		});
+	}
+
+	/**
+	 * 파싱된 개인키로 JWS 토큰 발행
+	 * @param publicKey 요청문에 담을 공개키
+	 * @param privateKey 서명 개인키
+	 * @param claim credentialSubject
+	 * @return JWS 가 발급된 요청문
+	 */
+	public JSONObject createReqMsg(String publicKey, PrivateKey privateKey, String claim) throws IOException,
+			NoSuchPaddingException, IllegalBlockSizeException, NoSuchAlgorithmException, InvalidKeySpecException,
+			BadPaddingException, InvalidKeyException, SignatureException, JSONException {
+		return createReqMsg(PUBLIC_KEY_FIELD, publicKey, privateKey, claim);
+	}
+
+	/**
+	 * 파싱된 개인키로 JWS 토큰 발행
+	 * @param keyField 요청문에 검증 키를 담을 필드 (PUBLIC_KEY_FIELD, KID_FIELD)
+	 * @param keyValue Base58 공개키 또는 kid
+	 * @param privateKey 서명 개인키
+	 * @param claim credentialSubject
+	 * @return JWS 가 발급된 요청문
+	 */
+	public JSONObject createReqMsg(String keyField, String keyValue, PrivateKey privateKey, String claim)
+			throws IOException, NoSuchPaddingException, IllegalBlockSizeException, NoSuchAlgorithmException,
+			InvalidKeySpecException, BadPaddingException, InvalidKeyException, SignatureException, JSONException {
+		return crypto(() -> create(keyField, keyValue, privateKey, claim));
+	}
+
+	/**
+	 * 키 파싱 / 해시 / 서명 / 검증을 CryptoExecutor 로 실행 (가상 스레드면 암호 연산 스레드 풀에서), 예외는 원래 타입으로 다시 던짐
+	 */
+	private <T> T crypto(Callable<T> task) throws IOException, NoSuchPaddingException, IllegalBlockSizeException,
+			NoSuchAlgorithmException, InvalidKeySpecException, BadPaddingException, InvalidKeyException,
+			SignatureException {
+		try {
+			return cryptoExecutor.call(task);
+		} catch (IOException | NoSuchPaddingException | IllegalBlockSizeException | NoSuchAlgorithmException
+				| InvalidKeySpecException | BadPaddingException | InvalidKeyException | SignatureException
+				| RuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String keyField(Request keyPair) {
+		return keyPair.getKid() != null ? KID_FIELD : PUBLIC_KEY_FIELD;
+	}
+
+	private static String keyValue(Request keyPair) {
+		return keyPair.getKid() != null ? keyPair.getKid() : keyPair.getPublicKey();
+	}
+
+	private JSONObject create(String keyField, String keyValue, PrivateKey privateKey, String claim) throws IOException,
+			NoSuchPaddingException, IllegalBlockSizeException, NoSuchAlgorithmException, BadPaddingException,
+			InvalidKeyException, SignatureException, JSONException {
+
+		long start = System.nanoTime();
+		JSONObject jsonObject = new JSONObject();
+
+		jsonObject.put("type", "JWS");
+		jsonObject.put("alg", signatureEngine.getAlg());
+		jsonObject.put("credentialSubject", new JSONObject(claim));
+		jsonObject.put(keyField, keyValue);
+		start = JwsMetrics.record(CREATE_JSON_PARSE, start);
+
+		String jws = jws(sign(claim, privateKey, start));
+		log.debug("jws = {}", jws);
+
+		jsonObject.put("jws", jws);
+		return jsonObject;
+	}
+
+	/**
+	 * JWS 토큰을 발행하여 요청문을 out 에 바로 씀
+	 * JSONObject, 문자열, 트리를 거치지 않고 claim 토큰을 JsonGenerator 로 그대로 옮겨 한 번에 직렬화
+	 * 서명까지 끝난 뒤에 쓰기 시작하므로 claim 이나 키가 잘못되었으면 아무 것도 쓰지 않음
+	 * @param keyPair 서명 키 페어 (없으면 서버 키), kid 가 있으면 publicKey 대신 kid 를 담음
+	 * @param claim credentialSubject
+	 * @param out 요청문을 쓸 스트림 (닫지 않음)
+	 * @param pretty true 면 들여쓰기, false 면 공백 없이 씀
+	 */
+	public void writeReqMsg(Request keyPair, String claim, OutputStream out, boolean pretty) throws IOException,
+			NoSuchPaddingException, IllegalBlockSizeException, NoSuchAlgorithmException, InvalidKeySpecException,
+			BadPaddingException, InvalidKeyException, SignatureException, JSONException {
+		long start = System.nanoTime();
+		try (JsonParser parser = JsonUtil.OBJECT_MAPPER.getFactory().createParser(claim)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new JSONException("claim 이 JSON 객체가 아닙니다.");
+			}
+			JwsMetrics.record(CREATE_JSON_PARSE, start);
+			// 쓰기는 느린 클라이언트에 막힐 수 있으므로 키 파싱과 서명만 암호 연산으로 실행
+			String jws = crypto(() -> {
+				PrivateKey privateKey = resolvePrivateKey(keyPair);
+				return jws(sign(claim, privateKey, System.nanoTime()));
+			});
+			String keyField = keyField(keyPair);
+			String keyValue = keyValue(keyPair);
+
+			PrettyPrintEvent event = new PrettyPrintEvent();
+			event.begin();
+			start = System.nanoTime();
+			try (JsonGenerator generator = JsonUtil.OBJECT_MAPPER.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+				generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+				if (pretty) {
+					generator.useDefaultPrettyPrinter();
+				}
+				generator.writeStartObject();
+				generator.writeStringField("type", "JWS");
+				generator.writeStringField("alg", signatureEngine.getAlg());
+				generator.writeFieldName("credentialSubject");
+				generator.copyCurrentStructure(parser);
+				if (keyValue != null) {
+					generator.writeStringField(keyField, keyValue);
+				}
+				generator.writeStringField("jws", jws);
+				generator.writeEndObject();
+			}
+			JwsMetrics.record(CREATE_WRITE, start);
+			event.finish(claim.length() + jws.length(), null);
+		} catch (JsonProcessingException e) {
+			throw new JSONException(e.getOriginalMessage(), e);
+		}
+	}
+
+	/**
+	 * claim 을 정규화하여 해시하고 payload (Base58(hex(해시))) 를 만들어 서명
+	 * @param start 이전 단계가 끝난 시각 (단계별 타이머)
+	 */
+	private Signed sign(String claim, PrivateKey privateKey, long start) throws IOException, NoSuchPaddingException,
+			IllegalBlockSizeException, NoSuchAlgorithmException, BadPaddingException, InvalidKeyException,
+			SignatureException {
+		MessageDigest digest = CryptoPool.digest("SHA-256");
+
+		// Payload (claim 을 다시 직렬화하지 않고 정규화하여 바로 해시)
+		DigestEvent digestEvent = new DigestEvent();
+		digestEvent.begin();
+		byte[] hashData = CanonicalJson.digest(claim, digest);
+		digestEvent.operation = "create";
+		digestEvent.method = "canonical";
+		digestEvent.finish(claim.length(), privateKey);
+		start = JwsMetrics.record(CREATE_CANONICAL_DIGEST, start);
+
+		// 바이트를 16진수 ASCII 로 변환
+		byte[] claimHexData = ByteUtil.bytesToHex(hashData, HEX_BUFFER.get());
+		Base58Event base58Event = new Base58Event();
+		base58Event.begin();
+		String payload = Base58Util.encode(claimHexData);
+		base58Event.operation = "encode";
+		base58Event.finish(claimHexData.length, privateKey);
+		start = JwsMetrics.record(CREATE_ENCODE, start);
+
+		// Signature
+		CipherEvent cipherEvent = new CipherEvent();
+		cipherEvent.begin();
+		byte[] signingInput = signatureEngine.signingInput(signatureEngine.getHeader(), payload);
+		byte[] signatureData = signatureEngine.sign(signingInput, privateKey);
+		cipherEvent.operation = "sign";
+		cipherEvent.alg = signatureEngine.getAlg();
+		cipherEvent.finish(signingInput.length, privateKey);
+		JwsMetrics.record(CREATE_SIGN, start);
+		return new Signed(hashData, payload, signatureData);
+	}
+
+	/**
+	 * header.payload.signature (signature 는 Base64)
+	 * header 는 type, alg 가 엔진마다 고정이므로 미리 인코딩해 둔 값
+	 */
+	private String jws(Signed signed) {
+		return signatureEngine.getHeader() + "." + signed.payload + "."
+				+ Base64.getEncoder().encodeToString(signed.signature);
+	}
+
+	/**
+	 * JWS 토큰을 CBOR 요청문으로 발행
+	 * JSON 요청문과 같은 필드를 담되 Base58 / Base64 / 16진수 같은 텍스트 인코딩 없이 바이트 그대로 담음
+	 * - type, alg : 문자열
+	 * - credentialSubject : claim 을 그대로 옮긴 CBOR 맵
+	 * - publicKey : DER(X.509) 바이트, kid 로 발행하면 대신 kid 문자열
+	 * - digest : 정규화한 claim 의 SHA-256 32바이트 (JSON 요청문 jws 의 payload 에 해당)
+	 * - signature : 서명 바이트
+	 * 서명 대상은 JSON 요청문과 같으므로 두 형식 사이에 서명을 그대로 옮길 수 있음
+	 * @param keyPair 서명 키 페어 (없으면 서버 키), kid 가 있으면 publicKey 대신 kid 를 담음
+	 * @param claim credentialSubject (JSON)
+	 * @return CBOR 요청문
+	 */
+	public byte[] createReqMsgCbor(Request keyPair, String claim) throws IOException, NoSuchPaddingException,
+			IllegalBlockSizeException, NoSuchAlgorithmException, InvalidKeySpecException, BadPaddingException,
+			InvalidKeyException, SignatureException, JSONException {
+		return crypto(() -> {
+			PrivateKey privateKey = resolvePrivateKey(keyPair);
+			return createCbor(keyField(keyPair), keyValue(keyPair), privateKey, claim);
+		});
+	}
+
+	private byte[] createCbor(String keyField, String keyValue, PrivateKey privateKey, String claim) throws IOException,
+			NoSuchPaddingException, IllegalBlockSizeException, NoSuchAlgorithmException, InvalidKeySpecException,
+			BadPaddingException, InvalidKeyException, SignatureException, JSONException {
+		long start = System.nanoTime();
+		ByteArrayOutputStream out = new ByteArrayOutputStream(claim.length() + CBOR_OVERHEAD);
+		try (JsonGenerator generator = JsonUtil.CBOR_FACTORY.createGenerator(out);
+			 JsonParser parser = JsonUtil.OBJECT_MAPPER.getFactory().createParser(claim)) {
+			generator.writeStartObject();
+			generator.writeStringField("type", "JWS");
+			generator.writeStringField("alg", signatureEngine.getAlg());
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new JSONException("claim 이 JSON 객체가 아닙니다.");
+			}
+			generator.writeFieldName("credentialSubject");
+			generator.copyCurrentStructure(parser);
+			if (KID_FIELD.equals(keyField)) {
+				generator.writeStringField(KID_FIELD, keyValue);
+			} else if (keyValue != null) {
+				generator.writeBinaryField(PUBLIC_KEY_FIELD, decodePublicKey(keyValue));
+			}
+			start = JwsMetrics.record(CREATE_JSON_PARSE, start);
+
+			Signed signed = sign(claim, privateKey, start);
+			generator.writeBinaryField("digest", signed.hashData);
+			generator.writeBinaryField("signature", signed.signature);
+			generator.writeEndObject();
+		} catch (JsonProcessingException e) {
+			throw new JSONException(e.getOriginalMessage(), e);
+		}
+		return out.toByteArray();
+	}
+
+	private static byte[] decodePublicKey(String publicKey) throws InvalidKeySpecException {
+		try {
+			return Base58Util.decode(publicKey);
+		} catch (IllegalArgumentException e) {
+			throw new InvalidKeySpecException("Base58 형식이 아닌 공개키입니다.", e);
+		}
+	}
+
+	/**
+	 * JWS 토큰 일괄 발행
+	 * JSON 배열 또는 NDJSON 으로 들어온 claim 을 읽는 대로 병렬 서명하고, 발행된 요청문을 입력 순서대로 NDJSON 한 줄씩 씀
+	 * 동시에 처리 중인 건수는 스레드 수의 2배로 제한하여 입력이 커도 메모리를 일정하게 유지
+	 * 서명하지 못한 claim 은 해당 자리에 {"index":.., "reason":.., "message":..} 한 줄을 씀
+	 * 쓰기에 실패하거나(클라이언트 연결 끊김) 스레드가 인터럽트되면 대기 중이거나 실행 중인 서명을 취소하고 중단
+	 * @param keyPair 요청문에 담을 공개키 또는 kid (resolvePrivateKey 로 정해진 키 페어)
+	 * @param privateKey 서명 개인키
+	 * @param in claim 목록
+	 * @param out 발행된 요청문
+	 */
+	public void createReqMsgBatch(Request keyPair, PrivateKey privateKey, InputStream in, OutputStream out)
+			throws IOException {
+		String keyField = keyField(keyPair);
+		String keyValue = keyValue(keyPair);
+		Deque<Future<byte[]>> pending = new ArrayDeque<>();
+		int window = cryptoExecutor.getParallelism() * 2;
+		int submitted = 0;
+
+		try {
+			try (MappingIterator<JsonNode> items = JsonUtil.OBJECT_MAPPER.readerFor(JsonNode.class).readValues(in)) {
+				while (true) {
+					JsonNode item;
+					try {
+						if (!items.hasNextValue()) {
+							break;
+						}
+						item = items.nextValue();
+					} catch (IOException | RuntimeException e) {
+						// 입력이 깨지면 다음 claim 의 경계를 알 수 없으므로 앞선 결과를 모두 쓰고 해당 순번을 실패로 쓴 뒤 중단
+						while (!pending.isEmpty()) {
+							writeNextLine(pending, out);
+						}
+						writeLine(out, RESULT_WRITER.writeValueAsBytes(
+								createFailure(submitted, VerifyReason.MALFORMED_MESSAGE)));
+						break;
+					}
+
+					int index = submitted++;
+					String claim = item.toString();
+					pending.add(cryptoExecutor.getExecutorService().submit(
+							() -> createReqMsgLine(index, keyField, keyValue, privateKey, claim)));
+
+					if (pending.size() >= window) {
+						writeNextLine(pending, out);
+					}
+				}
+			}
+
+			while (!pending.isEmpty()) {
+				writeNextLine(pending, out);
+			}
+		} finally {
+			// 쓰기에 실패하거나(클라이언트 연결 끊김) 인터럽트되면 대기 중이거나 실행 중인 서명을 취소
+			for (Future<byte[]> future : pending) {
+				future.cancel(true);
+			}
+		}
+	}
+
+	/**
+	 * 가장 먼저 제출한 결과를 기다려 쓰고 대기열에서 뺌
+	 * 기다리다 인터럽트되거나 쓰기에 실패하면 대기열에 남겨 호출한 쪽에서 취소할 수 있게 함
+	 */
+	private static void writeNextLine(Deque<Future<byte[]>> pending, OutputStream out) throws IOException {
+		writeLine(out, getResult(pending.peek()));
+		pending.poll();
+	}
+
+	private byte[] createReqMsgLine(int index, String keyField, String keyValue, PrivateKey privateKey, String claim)
+			throws IOException {
+		try {
+			return ByteUtil.stringToBytes(createReqMsg(keyField, keyValue, privateKey, claim).toString());
+		} catch (JSONException e) {
+			return RESULT_WRITER.writeValueAsBytes(createFailure(index, VerifyReason.MALFORMED_MESSAGE));
+		} catch (Exception e) {
+			log.warn("요청문 발행 중 오류가 발생하였습니다. (index: {})", index, e);
+			return RESULT_WRITER.writeValueAsBytes(createFailure(index, VerifyReason.ERROR));
+		}
+	}
+
+	/**
+	 * CSV 일괄 발행
+	 * 첫 줄을 헤더로 하는 CSV 를 한 행씩 읽어 {헤더: 값} 을 credentialSubject 로 병렬 서명하고, 발행된 요청문을 입력 순서대로 씀
+	 * 동시에 처리 중인 행은 스레드 수의 2배로 제한하여 파일 크기와 상관없이 메모리를 일정하게 유지
+	 * - NDJSON : createReqMsg/batch 와 같은 요청문 한 줄, 실패한 행은 {"index":.., "reason":.., "message":..}
+	 * - CSV : 헤더를 먼저 쓰고, 입력 컬럼 뒤에 publicKey (또는 kid), jws, reason 컬럼을 붙인 행 (reason 은 실패한 행만)
+	 * 입력이 깨지면 다음 행의 경계를 알 수 없으므로 앞선 결과를 모두 쓰고 해당 순번을 실패로 쓴 뒤 중단
+	 * 쓰기에 실패하거나(클라이언트 연결 끊김) 스레드가 인터럽트되면 대기 중이거나 실행 중인 행 서명을 취소하고 중단
+	 * @param keyPair 요청문에 담을 공개키 또는 kid (resolvePrivateKey 로 정해진 키 페어)
+	 * @param privateKey 서명 개인키
+	 * @param in CSV
+	 * @param out 발행된 요청문
+	 * @param csv true 면 CSV, false 면 NDJSON 으로 씀
+	 * @param progress 한 행 쓸 때마다 지금까지 쓴 행 수를 받음 (null 이면 생략)
+	 * @return 쓴 행 수
+	 */
+	public long createReqMsgCsv(Request keyPair, PrivateKey privateKey, InputStream in, OutputStream out, boolean csv,
+			LongConsumer progress) throws IOException {
+		String keyField = keyField(keyPair);
+		String keyValue = keyValue(keyPair);
+		Deque<Future<byte[]>> pending = new ArrayDeque<>();
+		int window = cryptoExecutor.getParallelism() * 2;
+		String[] columns = null;
+		int submitted = 0;
+		long written = 0;
+
+		try {
+			try (MappingIterator<Map<String, String>> rows = JsonUtil.readCsvRows(in)) {
+				while (true) {
+					Map<String, String> row;
+					try {
+						if (!rows.hasNextValue()) {
+							break;
+						}
+						row = rows.nextValue();
+					} catch (IOException | RuntimeException e) {
+						while (!pending.isEmpty()) {
+							writeNextLine(pending, out);
+							reportProgress(progress, ++written);
+						}
+						if (columns == null) {
+							columns = startCsv(rows, keyField, csv, out);
+						}
+						writeLine(out, csv
+								? JsonUtil.writeCsvRow(csvFailure(columns, null, VerifyReason.MALFORMED_MESSAGE))
+								: RESULT_WRITER.writeValueAsBytes(createFailure(submitted, VerifyReason.MALFORMED_MESSAGE)));
+						reportProgress(progress, ++written);
+						break;
+					}
+
+					if (columns == null) {
+						columns = startCsv(rows, keyField, csv, out);
+					}
+
+					int index = submitted++;
+					String[] rowColumns = columns;
+					String claim = JsonUtil.OBJECT_MAPPER.writeValueAsString(row);
+					pending.add(cryptoExecutor.getExecutorService().submit(csv
+							? () -> createReqMsgCsvRow(index, rowColumns, row, keyValue, privateKey, claim)
+							: () -> createReqMsgLine(index, keyField, keyValue, privateKey, claim)));
+
+					if (pending.size() >= window) {
+						writeNextLine(pending, out);
+						reportProgress(progress, ++written);
+					}
+				}
+				if (columns == null) {
+					// 행이 없어도 헤더는 씀
+					startCsv(rows, keyField, csv, out);
+				}
+			}
+
+			while (!pending.isEmpty()) {
+				writeNextLine(pending, out);
+				reportProgress(progress, ++written);
+			}
+		} finally {
+			// 쓰기에 실패하거나(클라이언트 연결 끊김) 인터럽트되면 대기 중이거나 실행 중인 행 서명을 취소
+			for (Future<byte[]> future : pending) {
+				future.cancel(true);
+			}
+		}
+		return written;
+	}
+
+	/**
+	 * 입력 헤더로 출력 컬럼을 정하고, CSV 로 쓰면 어떤 행보다 먼저 헤더 행을 씀
+	 * 첫 행이 잘못되어 실패 행을 쓰는 경우에도 출력은 헤더로 시작 (헤더를 읽지 못했으면 추가 컬럼만 씀)
+	 * @return 입력 컬럼
+	 */
+	private static String[] startCsv(MappingIterator<Map<String, String>> rows, String keyField, boolean csv,
+			OutputStream out) throws IOException {
+		CsvSchema schema = (CsvSchema) rows.getParserSchema();
+		String[] columns = schema != null ? csvColumns(schema) : new String[0];
+		if (csv) {
+			String[] header = Arrays.copyOf(columns, columns.length + 3);
+			header[columns.length] = keyField;
+			header[columns.length + 1] = "jws";
+			header[columns.length + 2] = "reason";
+			writeLine(out, JsonUtil.writeCsvRow(header));
+		}
+		return columns;
+	}
+
+	private byte[] createReqMsgCsvRow(int index, String[] columns, Map<String, String> row, String keyValue,
+			PrivateKey privateKey, String claim) throws IOException {
+		try {
+			String[] values = csvValues(columns, row, columns.length + 3);
+			values[columns.length] = keyValue != null ? keyValue : "";
+			values[columns.length + 1] = jws(sign(claim, privateKey, System.nanoTime()));
+			return JsonUtil.writeCsvRow(values);
+		} catch (Exception e) {
+			log.warn("요청문 발행 중 오류가 발생하였습니다. (index: {})", index, e);
+			return JsonUtil.writeCsvRow(csvFailure(columns, row, VerifyReason.ERROR));
+		}
+	}
+
+	private static String[] csvColumns(CsvSchema schema) {
+		String[] columns = new String[schema.size()];
+		for (int i = 0; i < columns.length; i++) {
+			columns[i] = schema.columnName(i);
+		}
+		return columns;
+	}
+
+	private static String[] csvValues(String[] columns, Map<String, String> row, int length) {
+		// 빈 값도 컬럼을 채워 써야 행마다 컬럼 수가 같음
+		String[] values = new String[length];
+		Arrays.fill(values, "");
+		for (int i = 0; i < columns.length; i++) {
+			values[i] = row.getOrDefault(columns[i], "");
+		}
+		return values;
+	}
+
+	private static String[] csvFailure(String[] columns, Map<String, String> row, VerifyReason reason) {
+		int count = columns != null ? columns.length : 0;
+		String[] values = csvValues(columns != null ? columns : new String[0],
+				row != null ? row : Collections.emptyMap(), count + 3);
+		values[count + 2] = reason.name();
+		return values;
+	}
+
+	private static void reportProgress(LongConsumer progress, long written) {
+		if (progress != null) {
+			progress.accept(written);
+		}
+	}
+
+	private static Map<String, Object> createFailure(int index, VerifyReason reason) {
+		Map<String, Object> failure = new LinkedHashMap<>();
+		failure.put("index", index);
+		failure.put("reason", reason);
+		failure.put("message", reason.getMessage());
+		return failure;
+	}
+
+	/**
+	 * JWS 토큰 검증
+	 * @param reqMsg JWS 가 발급된 요청문
+	 * @return 해시 검증 성공 여부
+	 */
+	public boolean verifyReqMsg(String reqMsg) throws NoSuchPaddingException, IllegalBlockSizeException,
+			NoSuchAlgorithmException, InvalidKeySpecException, IOException, BadPaddingException, InvalidKeyException,
+			SignatureException, JSONException {
+		try {
+			boolean verified = crypto(() -> verify(reqMsg));
+			JwsMetrics.countVerifyResult(verified ? VerifyReason.SUCCESS : VerifyReason.HASH_MISMATCH);
+			return verified;
+		} catch (Exception e) {
+			JwsMetrics.countVerifyResult(reasonOf(e));
+			throw e;
+		}
+	}
+
+	private boolean verify(String reqMsg) throws NoSuchPaddingException, IllegalBlockSizeException,
+			NoSuchAlgorithmException, InvalidKeySpecException, IOException, BadPaddingException, InvalidKeyException,
+			SignatureException, JSONException {
+
+		long start = System.nanoTime();
+		DigestEvent digestEvent = new DigestEvent();
+		digestEvent.begin();
+		MessageDigest digest = CryptoPool.digest("SHA-256");
+		byte[] hashData = null;
+		String jws = null;
+		String publicKeyText = null;
+		String kid = null;
+
+		// 요청문을 트리로 만들지 않고 토큰 단위로 읽으며, credentialSubject 는 읽는 대로 정규화하여 해시
+		try (JsonParser parser = JsonUtil.OBJECT_MAPPER.getFactory().createParser(reqMsg)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new JSONException("요청문이 JSON 객체가 아닙니다.");
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String name = parser.getCurrentName();
+				parser.nextToken();
+				if ("credentialSubject".equals(name)) {
+					hashData = CanonicalJson.digest(parser, digest);
+				} else if ("jws".equals(name)) {
+					jws = textValue(parser, name);
+				} else if (PUBLIC_KEY_FIELD.equals(name)) {
+					publicKeyText = textValue(parser, name);
+				} else if (KID_FIELD.equals(name)) {
+					kid = textValue(parser, name);
+				} else {
+					parser.skipChildren();
+				}
+			}
+		} catch (JsonProcessingException e) {
+			throw new JSONException(e.getOriginalMessage(), e);
+		}
+		if (hashData == null || jws == null || (publicKeyText == null && kid == null)) {
+			throw new JSONException("요청문에 credentialSubject, jws, publicKey (또는 kid) 가 모두 있어야 합니다.");
+		}
+		digestEvent.operation = "verify";
+		digestEvent.method = "canonical";
+		digestEvent.finish(reqMsg.length(), null);
+		start = JwsMetrics.record(VERIFY_PARSE_DIGEST, start);
+
+		// header 의 alg 로 서명 엔진을 찾음
+		String header = segment(jws, 0);
+		SignatureEngine engine = SignatureEngines.forHeader(header);
+
+		// 정규화 이전에 발행된 요청문은 JSONObject 직렬화 결과로 해시
+		if (SignatureEngines.ALG_LEGACY.equals(engine.getAlg())) {
+			DigestEvent legacyEvent = new DigestEvent();
+			legacyEvent.begin();
+			byte[] byteData = ByteUtil.stringToBytes(new JSONObject(reqMsg).get("credentialSubject").toString());
+			hashData = digest.digest(byteData);
+			legacyEvent.operation = "verify";
+			legacyEvent.method = "legacy";
+			legacyEvent.finish(byteData.length, null);
+			start = JwsMetrics.record(VERIFY_LEGACY_DIGEST, start);
+		}
+
+		// 같은 요청문을 이미 검증하였다면 서명 검증 생략
+		HashCode cacheKey = null;
+		if (verifyCache != null) {
+			String key = kid != null ? kid : publicKeyText;
+			cacheKey = verifyCacheKey(digest, hashData, kid != null ? CACHE_KEY_KID : CACHE_KEY_PUBLIC_KEY,
+					jws.getBytes(StandardCharsets.UTF_8), key.getBytes(StandardCharsets.UTF_8));
+			boolean cached = verifyCache.getIfPresent(cacheKey) != null;
+			start = JwsMetrics.record(VERIFY_CACHE_LOOKUP, start);
+			if (cached) {
+				return true;
+			}
+		}
+
+		// header.payload.signature 중 signature 만 잘라냄
+		byte[] signatureData = Base64.getDecoder().decode(segment(jws, 2));
+		return verifySignature(engine, hashData, signatureData, kid, publicKeyText, null, cacheKey, start);
+	}
+
+	/**
+	 * CBOR 요청문 (createReqMsgCbor) 검증
+	 * @param reqMsg CBOR 요청문
+	 * @return 해시 검증 성공 여부
+	 */
+	public boolean verifyReqMsgCbor(byte[] reqMsg) throws NoSuchPaddingException, IllegalBlockSizeException,
+			NoSuchAlgorithmException, InvalidKeySpecException, IOException, BadPaddingException, InvalidKeyException,
+			SignatureException, JSONException {
+		try {
+			boolean verified = crypto(() -> verifyCbor(reqMsg));
+			JwsMetrics.countVerifyResult(verified ? VerifyReason.SUCCESS : VerifyReason.HASH_MISMATCH);
+			return verified;
+		} catch (Exception e) {
+			JwsMetrics.countVerifyResult(reasonOf(e));
+			throw e;
+		}
+	}
+
+	private boolean verifyCbor(byte[] reqMsg) throws NoSuchPaddingException, IllegalBlockSizeException,
+			NoSuchAlgorithmException, InvalidKeySpecException, IOException, BadPaddingException, InvalidKeyException,
+			SignatureException, JSONException {
+
+		long start = System.nanoTime();
+		DigestEvent digestEvent = new DigestEvent();
+		digestEvent.begin();
+		MessageDigest digest = CryptoPool.digest("SHA-256");
+		byte[] hashData = null;
+		String alg = null;
+		String kid = null;
+		byte[] publicKeyData = null;
+		byte[] claimedDigest = null;
+		byte[] signatureData = null;
+
+		// credentialSubject 는 CBOR 토큰을 그대로 정규화하여 해시, 바이트 필드는 디코딩 없이 읽음
+		try (JsonParser parser = JsonUtil.CBOR_FACTORY.createParser(reqMsg)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new JSONException("요청문이 CBOR 맵이 아닙니다.");
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String name = parser.getCurrentName();
+				parser.nextToken();
+				if ("credentialSubject".equals(name)) {
+					hashData = CanonicalJson.digest(parser, digest);
+				} else if ("alg".equals(name)) {
+					alg = textValue(parser, name);
+				} else if (KID_FIELD.equals(name)) {
+					kid = textValue(parser, name);
+				} else if (PUBLIC_KEY_FIELD.equals(name)) {
+					publicKeyData = binaryValue(parser, name);
+				} else if ("digest".equals(name)) {
+					claimedDigest = binaryValue(parser, name);
+				} else if ("signature".equals(name)) {
+					signatureData = binaryValue(parser, name);
+				} else {
+					parser.skipChildren();
+				}
+			}
+		} catch (JsonProcessingException e) {
+			throw new JSONException(e.getOriginalMessage(), e);
+		}
+		if (hashData == null || alg == null || signatureData == null || (publicKeyData == null && kid == null)) {
+			throw new JSONException("요청문에 credentialSubject, alg, signature, publicKey (또는 kid) 가 모두 있어야 합니다.");
+		}
+		digestEvent.operation = "verify";
+		digestEvent.method = "canonical";
+		digestEvent.finish(reqMsg.length, null);
+		start = JwsMetrics.record(VERIFY_PARSE_DIGEST, start);
+
+		// 담겨 온 digest 가 다시 계산한 해시와 다르면 서명 검증 없이 실패
+		SignatureEngine engine = SignatureEngines.forAlg(alg);
+		if (claimedDigest != null && !MessageDigest.isEqual(claimedDigest, hashData)) {
+			return false;
+		}
+
+		HashCode cacheKey = null;
+		if (verifyCache != null) {
+			cacheKey = verifyCacheKey(digest, hashData, kid != null ? CACHE_KEY_CBOR_KID : CACHE_KEY_CBOR_PUBLIC_KEY,
+					alg.getBytes(StandardCharsets.UTF_8), signatureData,
+					kid != null ? kid.getBytes(StandardCharsets.UTF_8) : publicKeyData);
+			boolean cached = verifyCache.getIfPresent(cacheKey) != null;
+			start = JwsMetrics.record(VERIFY_CACHE_LOOKUP, start);
+			if (cached) {
+				return true;
+			}
+		}
+		return verifySignature(engine, hashData, signatureData, kid, null, publicKeyData, cacheKey, start);
+	}
+
+	/**
+	 * 다시 계산한 해시로 payload 를 만들어 서명 검증, 성공하면 결과 캐시에 저장
+	 * 공개키는 kid (등록된 발행자의 파싱된 키), Base58 공개키, DER 공개키 중 있는 것을 엔진의 키 알고리즘으로 사용
+	 */
+	private boolean verifySignature(SignatureEngine engine, byte[] hashData, byte[] signatureData, String kid,
+			String publicKeyText, byte[] publicKeyData, HashCode cacheKey, long start) throws NoSuchPaddingException,
+			IllegalBlockSizeException, NoSuchAlgorithmException, InvalidKeySpecException, IOException,
+			BadPaddingException, InvalidKeyException, SignatureException {
+		// 바이트를 16진수 ASCII 로 변환, 요청문의 payload 대신 다시 계산한 payload 로 서명을 검증
+		byte[] claimHexData = ByteUtil.bytesToHex(hashData, HEX_BUFFER.get());
+		Base58Event base58Event = new Base58Event();
+		base58Event.begin();
+		String payload = Base58Util.encode(claimHexData);
+		base58Event.operation = "encode";
+		base58Event.finish(claimHexData.length, null);
+		start = JwsMetrics.record(VERIFY_ENCODE, start);
+
+		PublicKey publicKey;
+		if (kid != null) {
+			publicKey = issuerRegistry.getPublicKey(kid);
+			start = JwsMetrics.record(VERIFY_KID, start);
+		} else if (publicKeyData != null) {
+			publicKey = rsaKeyGenerator.getPublicKey(engine.getKeyAlgorithm(), publicKeyData);
+			start = JwsMetrics.record(VERIFY_KEY, start);
+		} else {
+			publicKey = rsaKeyGenerator.getPublicKey(engine.getKeyAlgorithm(), publicKeyText);
+			start = JwsMetrics.record(VERIFY_KEY, start);
+		}
+		CipherEvent cipherEvent = new CipherEvent();
+		cipherEvent.begin();
+		byte[] signingInput = engine.signingInput(engine.getHeader(), payload);
+		boolean verified = engine.verify(signingInput, signatureData, publicKey);
+		cipherEvent.operation = "verify";
+		cipherEvent.alg = engine.getAlg();
+		cipherEvent.finish(signingInput.length, publicKey);
+		JwsMetrics.record(VERIFY_SIGNATURE, start);
+		if (verified && cacheKey != null) {
+			verifyCache.put(cacheKey, Boolean.TRUE);
+		}
+		return verified;
+	}
+
+	/**
+	 * 검증 결과 캐시의 키, 각 값의 길이를 앞에 붙여 경계가 섞이지 않도록 해시
+	 * kid 는 공개키 해시로 정해지므로 공개키 대신 사용하고, 형식(JSON / CBOR)과 키 종류는 구분 바이트로 나눔
+	 * @param kind CACHE_KEY_*
+	 * @param parts 토큰 (jws, 또는 alg + signature) 과 키 (공개키 또는 kid)
+	 */
+	private static HashCode verifyCacheKey(MessageDigest digest, byte[] hashData, byte kind, byte[]... parts) {
+		digest.update(hashData);
+		digest.update(kind);
+		for (byte[] part : parts) {
+			updateWithLength(digest, part);
+		}
+		return HashCode.fromBytes(digest.digest());
+	}
+
+	private static byte[] binaryValue(JsonParser parser, String name) throws IOException {
+		if (parser.currentToken() != JsonToken.VALUE_EMBEDDED_OBJECT) {
+			throw new JSONException(name + " 이(가) 바이트 문자열이 아닙니다.");
+		}
+		return parser.getBinaryValue();
+	}
+
+	private static void updateWithLength(MessageDigest digest, byte[] bytes) {
+		int length = bytes.length;
+		digest.update((byte) (length >>> 24));
+		digest.update((byte) (length >>> 16));
+		digest.update((byte) (length >>> 8));
+		digest.update((byte) length);
+		digest.update(bytes);
+	}
+
+	private static String textValue(JsonParser parser, String name) throws IOException {
+		if (parser.currentToken() != JsonToken.VALUE_STRING) {
+			throw new JSONException(name + " 이(가) 문자열이 아닙니다.");
+		}
+		return parser.getText();
+	}
+
+	/**
+	 * '.' 으로 구분된 jws 의 index 번째 조각, 없으면 빈 문자열
+	 */
+	private static String segment(String jws, int index) {
+		int start = 0;
+		for (int i = 0; i < index; i++) {
+			start = jws.indexOf('.', start) + 1;
+			if (start == 0) {
+				return "";
+			}
+		}
+		int end = jws.indexOf('.', start);
+		return jws.substring(start, end < 0 ? jws.length() : end);
+	}
+
+	/**
+	 * JWS 토큰 검증, 예외를 던지지 않고 사유와 함께 결과를 리턴
+	 * @param index 일괄 요청 안에서의 순번
+	 * @param reqMsg JWS 가 발급된 요청문
+	 * @return 검증 결과
+	 */
+	public VerifyResult verifyReqMsg(int index, String reqMsg) {
+		VerifyReason reason;
+		try {
+			reason = verifyReqMsg(reqMsg) ? VerifyReason.SUCCESS : VerifyReason.HASH_MISMATCH;
+		} catch (Exception e) {
+			reason = reasonOf(e);
+			if (reason == VerifyReason.ERROR) {
+				log.warn("요청문 검증 중 오류가 발생하였습니다. (index: {})", index, e);
+			}
+		}
+		return VerifyResult.builder()
+				.index(index)
+				.valid(reason == VerifyReason.SUCCESS)
+				.reason(reason)
+				.message(reason.getMessage())
+				.build();
+	}
+
+	/**
+	 * 검증 중 발생한 예외를 실패 사유로 분류
+	 */
+	private static VerifyReason reasonOf(Exception e) {
+		if (e instanceof JSONException) {
+			return VerifyReason.MALFORMED_MESSAGE;
+		} else if (e instanceof InvalidKeySpecException || e instanceof InvalidKeyException) {
+			return VerifyReason.INVALID_KEY;
+		} else if (e instanceof BadPaddingException || e instanceof IllegalBlockSizeException
+				|| e instanceof SignatureException || e instanceof IllegalArgumentException) {
+			return VerifyReason.INVALID_SIGNATURE;
+		}
+		return VerifyReason.ERROR;
+	}
+
+	/**
+	 * JWS 토큰 일괄 검증
+	 * JSON 배열 또는 NDJSON 으로 들어온 요청문을 읽는 대로 병렬 검증하고, 끝나는 순서대로 결과를 NDJSON 한 줄씩 씀
+	 * 동시에 처리 중인 건수는 스레드 수의 2배로 제한하여 입력이 커도 메모리를 일정하게 유지
+	 * @param in 요청문 목록
+	 * @param out 검증 결과 (index 로 입력 순번을 알 수 있음)
+	 */
+	public void verifyReqMsgBatch(InputStream in, OutputStream out) throws IOException {
+		CompletionService<VerifyResult> completionService =
+				new ExecutorCompletionService<>(cryptoExecutor.getExecutorService());
+		Set<Future<VerifyResult>> pending = new HashSet<>();
+		int window = cryptoExecutor.getParallelism() * 2;
+		int submitted = 0;
+
+		try {
+			try (MappingIterator<JsonNode> items = JsonUtil.OBJECT_MAPPER.readerFor(JsonNode.class).readValues(in)) {
+				while (true) {
+					JsonNode item;
+					try {
+						if (!items.hasNextValue()) {
+							break;
+						}
+						item = items.nextValue();
+					} catch (IOException | RuntimeException e) {
+						// 입력이 깨지면 다음 요청문의 경계를 알 수 없으므로 해당 순번을 실패로 쓰고 중단
+						writeResult(out, VerifyResult.builder()
+								.index(submitted)
+								.valid(false)
+								.reason(VerifyReason.MALFORMED_MESSAGE)
+								.message(VerifyReason.MALFORMED_MESSAGE.getMessage())
+								.build());
+						break;
+					}
+
+					int index = submitted++;
+					String reqMsg = item.isTextual() ? item.textValue() : item.toString();
+					pending.add(completionService.submit(() -> verifyReqMsg(index, reqMsg)));
+
+					while (pending.size() >= window) {
+						writeNextResult(completionService, pending, out);
+					}
+				}
+			}
+
+			while (!pending.isEmpty()) {
+				writeNextResult(completionService, pending, out);
+			}
+		} finally {
+			// 쓰기에 실패하거나(클라이언트 연결 끊김) 인터럽트되면 대기 중이거나 실행 중인 검증을 취소
+			for (Future<VerifyResult> future : pending) {
+				future.cancel(true);
+			}
+		}
+	}
+
+	private static void writeNextResult(CompletionService<VerifyResult> completionService,
+			Set<Future<VerifyResult>> pending, OutputStream out) throws IOException {
+		Future<VerifyResult> done = takeFuture(completionService);
+		pending.remove(done);
+		writeResult(out, getResult(done));
+	}
+
+	/**
+	 * 키 페어 일괄 생성
+	 * 코어 수만큼 병렬로 생성하여 끝나는 순서대로 {"index":.., "publicKey":.., "privateKey":..} 한 줄씩 씀
+	 * 동시에 생성 중인 건수는 스레드 수의 2배로 제한하여 count 가 커도 메모리를 일정하게 유지
+	 * 쓰기에 실패하거나(클라이언트 연결 끊김) 스레드가 인터럽트되면 아직 시작하지 않은 생성을 취소하고 중단
+	 * @param count 생성할 키 페어 수
+	 * @param out 생성된 키 페어 (Base58)
+	 * @param progress 한 건 쓸 때마다 지금까지 쓴 건수를 받음 (null 이면 생략)
+	 * @return 쓴 건수
+	 */
+	public long createKeyPairBulk(long count, OutputStream out, LongConsumer progress) throws IOException {
+		CompletionService<byte[]> completionService =
+				new ExecutorCompletionService<>(cryptoExecutor.getExecutorService());
+		Set<Future<byte[]>> pending = new HashSet<>();
+		int window = cryptoExecutor.getParallelism() * 2;
+		long submitted = 0;
+		long written = 0;
+
+		try {
+			while (written < count) {
+				while (submitted < count && submitted - written < window) {
+					long index = submitted++;
+					pending.add(completionService.submit(() -> keyPairLine(index)));
+				}
+				Future<byte[]> done = takeFuture(completionService);
+				pending.remove(done);
+				writeLine(out, getResult(done));
+				written++;
+				if (progress != null) {
+					progress.accept(written);
+				}
+			}
+		} finally {
+			for (Future<byte[]> future : pending) {
+				future.cancel(true);
+			}
+		}
+		return written;
+	}
+
+	private byte[] keyPairLine(long index) throws IOException, NoSuchAlgorithmException {
+		KeyPair keyPair = signatureEngine.generateKeyPair(verifyProperties.getKeySize());
+		Map<String, Object> line = new LinkedHashMap<>();
+		line.put("index", index);
+		line.put("publicKey", Base58Util.encode(keyPair.getPublic().getEncoded()));
+		line.put("privateKey", Base58Util.encode(keyPair.getPrivate().getEncoded()));
+		return RESULT_WRITER.writeValueAsBytes(line);
+	}
+
+	private static <T> Future<T> takeFuture(CompletionService<T> completionService) throws IOException {
+		try {
+			return completionService.take();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("일괄 처리가 중단되었습니다.");
+		}
+	}
+
+	private static <T> T getResult(Future<T> future) throws IOException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("일괄 처리가 중단되었습니다.");
+		} catch (ExecutionException e) {
+			Throwables.throwIfInstanceOf(e.getCause(), IOException.class);
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	private static void writeResult(OutputStream out, Object result) throws IOException {
+		writeLine(out, RESULT_WRITER.writeValueAsBytes(result));
+	}
+
+	private static void writeLine(OutputStream out, byte[] line) throws IOException {
+		out.write(line);
+		out.write('\n');
+		out.flush();
+	}
+
+	/**
+	 * 서명 결과, 해시와 payload, 서명 바이트
+	 */
+	private static final class Signed {
+		private final byte[] hashData;
+		private final String payload;
+		private final byte[] signature;
+
+		private Signed(byte[] hashData, String payload, byte[] signature) {
+			this.hashData = hashData;
+			this.payload = payload;
+			this.signature = signature;
+		}
+	}
+}
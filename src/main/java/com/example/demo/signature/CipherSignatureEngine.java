@@ -0,0 +1,66 @@
+package com.example.demo.signature;
+
+import com.example.demo.util.CryptoPool;
+import lombok.Getter;
+
+import javax.crypto.BadPaddingException;
+import javax.crypto.Cipher;
+import javax.crypto.IllegalBlockSizeException;
+import javax.crypto.NoSuchPaddingException;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+
+/**
+ * 기존 방식 RSA 서명 엔진
+ * payload 를 RSA 개인키로 암호화(Cipher "RSA")하고, 검증 시 공개키로 복호화하여 payload 와 비교
+ */
+@Getter
+public class CipherSignatureEngine implements SignatureEngine {
+
+	private final String alg;
+	private final String keyAlgorithm = "RSA";
+	private final String header;
+
+	public CipherSignatureEngine(String alg) {
+		this.alg = alg;
+		this.header = SignatureEngines.header(alg);
+	}
+
+	@Override
+	public KeyPair generateKeyPair(int keySize) throws NoSuchAlgorithmException {
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance(keyAlgorithm);
+		keyPairGenerator.initialize(keySize);
+		return keyPairGenerator.genKeyPair();
+	}
+
+	/**
+	 * 기존에 발행된 토큰과 같도록 payload 만 암호화
+	 */
+	@Override
+	public byte[] signingInput(String header, String payload) {
+		return payload.getBytes(StandardCharsets.US_ASCII);
+	}
+
+	@Override
+	public byte[] sign(byte[] signingInput, PrivateKey privateKey) throws NoSuchAlgorithmException,
+			NoSuchPaddingException, InvalidKeyException, IllegalBlockSizeException, BadPaddingException {
+		Cipher cipher = CryptoPool.cipher("RSA");
+		cipher.init(Cipher.ENCRYPT_MODE, privateKey);
+		return cipher.doFinal(signingInput);
+	}
+
+	@Override
+	public boolean verify(byte[] signingInput, byte[] signature, PublicKey publicKey) throws NoSuchAlgorithmException,
+			NoSuchPaddingException, InvalidKeyException, IllegalBlockSizeException, BadPaddingException {
+		Cipher cipher = CryptoPool.cipher("RSA");
+		cipher.init(Cipher.DECRYPT_MODE, publicKey);
+		// 일치하는 길이에 따라 비교 시간이 달라지지 않도록 상수 시간 비교
+		return MessageDigest.isEqual(signingInput, cipher.doFinal(signature));
+	}
+}
@@ -0,0 +1,77 @@
+package com.example.demo.signature;
+
+import com.example.demo.util.CryptoPool;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.security.InvalidAlgorithmParameterException;
+import java.security.InvalidKeyException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.security.spec.AlgorithmParameterSpec;
+
+/**
+ * java.security.Signature 기반 서명 엔진 (SHA256withRSA, SHA256withECDSA, Ed25519)
+ * "header.payload" 를 서명하므로 header 의 alg 를 바꿔치기하면 검증에 실패
+ */
+@Getter
+public class JcaSignatureEngine implements SignatureEngine {
+
+	private final String alg;
+	private final String signatureAlgorithm;
+	private final String keyAlgorithm;
+	private final String header;
+
+	/**
+	 * 키 생성 파라미터 (ex. EC 곡선), 없으면 RSA 는 keySize 로, 나머지는 기본값으로 생성
+	 */
+	@Getter(AccessLevel.NONE)
+	private final AlgorithmParameterSpec keyParameter;
+
+	public JcaSignatureEngine(String alg, String signatureAlgorithm, String keyAlgorithm,
+							  AlgorithmParameterSpec keyParameter) {
+		this.alg = alg;
+		this.signatureAlgorithm = signatureAlgorithm;
+		this.keyAlgorithm = keyAlgorithm;
+		this.keyParameter = keyParameter;
+		this.header = SignatureEngines.header(alg);
+	}
+
+	@Override
+	public KeyPair generateKeyPair(int keySize) throws NoSuchAlgorithmException {
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance(keyAlgorithm);
+		if (keyParameter != null) {
+			try {
+				keyPairGenerator.initialize(keyParameter);
+			} catch (InvalidAlgorithmParameterException e) {
+				throw new NoSuchAlgorithmException(alg + " 키 생성 파라미터를 지원하지 않습니다.", e);
+			}
+		} else if ("RSA".equals(keyAlgorithm)) {
+			keyPairGenerator.initialize(keySize);
+		}
+		return keyPairGenerator.genKeyPair();
+	}
+
+	@Override
+	public byte[] sign(byte[] signingInput, PrivateKey privateKey) throws NoSuchAlgorithmException,
+			InvalidKeyException, SignatureException {
+		Signature signature = CryptoPool.signature(signatureAlgorithm);
+		signature.initSign(privateKey);
+		signature.update(signingInput);
+		return signature.sign();
+	}
+
+	@Override
+	public boolean verify(byte[] signingInput, byte[] signatureBytes, PublicKey publicKey)
+			throws NoSuchAlgorithmException, InvalidKeyException, SignatureException {
+		Signature signature = CryptoPool.signature(signatureAlgorithm);
+		signature.initVerify(publicKey);
+		signature.update(signingInput);
+		return signature.verify(signatureBytes);
+	}
+}
@@ -0,0 +1,67 @@
+package com.example.demo.signature;
+
+import javax.crypto.BadPaddingException;
+import javax.crypto.IllegalBlockSizeException;
+import javax.crypto.NoSuchPaddingException;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.KeyPair;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SignatureException;
+
+/**
+ * JWS 서명 / 검증 엔진
+ * 엔진마다 토큰 header 의 alg 와 키 알고리즘이 정해져 있으며, 검증 시 header 의 alg 로 엔진을 찾음
+ */
+public interface SignatureEngine {
+
+	/**
+	 * 토큰 header 에 기록하는 알고리즘 이름
+	 */
+	String getAlg();
+
+	/**
+	 * KeyFactory / KeyPairGenerator 알고리즘 (ex. RSA, EC, Ed25519)
+	 */
+	String getKeyAlgorithm();
+
+	/**
+	 * Base58(type + alg) 로 인코딩된 토큰 header
+	 */
+	String getHeader();
+
+	/**
+	 * 이 엔진에 맞는 키 페어 생성
+	 * @param keySize 키 크기 (크기를 정할 수 있는 알고리즘만 사용)
+	 */
+	KeyPair generateKeyPair(int keySize) throws NoSuchAlgorithmException;
+
+	/**
+	 * 서명 대상 바이트, 기본은 "header.payload"
+	 */
+	default byte[] signingInput(String header, String payload) {
+		return (header + "." + payload).getBytes(StandardCharsets.US_ASCII);
+	}
+
+	/**
+	 * 서명
+	 * @param signingInput 서명 대상
+	 * @param privateKey 개인키
+	 * @return 서명 바이트
+	 */
+	byte[] sign(byte[] signingInput, PrivateKey privateKey) throws NoSuchAlgorithmException, NoSuchPaddingException,
+			InvalidKeyException, IllegalBlockSizeException, BadPaddingException, SignatureException;
+
+	/**
+	 * 서명 검증
+	 * @param signingInput 서명 대상 (검증하는 쪽에서 다시 계산한 값)
+	 * @param signature 서명 바이트
+	 * @param publicKey 공개키
+	 * @return 서명 일치 여부
+	 */
+	boolean verify(byte[] signingInput, byte[] signature, PublicKey publicKey) throws NoSuchAlgorithmException,
+			NoSuchPaddingException, InvalidKeyException, IllegalBlockSizeException, BadPaddingException,
+			SignatureException;
+}
@@ -0,0 +1,119 @@
+package com.example.demo.signature;
+
+import com.example.demo.util.Base58Util;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Provider;
+import java.security.Security;
+import java.security.SignatureException;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 서명 엔진 목록
+ * 발행 시에는 설정(VerifyProperties.algorithm)으로, 검증 시에는 토큰 header 로 엔진을 찾음
+ */
+@Slf4j
+public class SignatureEngines {
+
+	/**
+	 * 정규화 이전 기존 방식 (JSONObject 직렬화 해시 + RSA 암호화), 검증에만 사용
+	 */
+	public static final String ALG_LEGACY = "SHA256";
+
+	/**
+	 * 정규화 해시 + RSA 암호화 (설정값 RSA)
+	 */
+	public static final String ALG_RSA_CIPHER = "SHA256-JCS";
+
+	public static final String ALG_RSA = "SHA256withRSA";
+	public static final String ALG_ECDSA = "SHA256withECDSA";
+	public static final String ALG_EDDSA = "Ed25519";
+
+	private static final String BOUNCY_CASTLE_PROVIDER = "org.bouncycastle.jce.provider.BouncyCastleProvider";
+
+	private static final Map<String, SignatureEngine> BY_ALG = new LinkedHashMap<>();
+	private static final Map<String, SignatureEngine> BY_HEADER = new LinkedHashMap<>();
+
+	static {
+		// JDK 15 미만에는 Ed25519 가 없으므로 bitcoinj 와 함께 들어오는 BouncyCastle 을 provider 로 등록
+		if (Security.getProviders("Signature." + ALG_EDDSA) == null) {
+			try {
+				Security.addProvider((Provider) Class.forName(BOUNCY_CASTLE_PROVIDER).getDeclaredConstructor().newInstance());
+			} catch (ReflectiveOperationException | LinkageError e) {
+				log.warn("Ed25519 를 지원하는 provider 가 없습니다.", e);
+			}
+		}
+
+		register(new CipherSignatureEngine(ALG_LEGACY));
+		register(new CipherSignatureEngine(ALG_RSA_CIPHER));
+		register(new JcaSignatureEngine(ALG_RSA, "SHA256withRSA", "RSA", null));
+		register(new JcaSignatureEngine(ALG_ECDSA, "SHA256withECDSA", "EC", new ECGenParameterSpec("secp256r1")));
+		register(new JcaSignatureEngine(ALG_EDDSA, "Ed25519", "Ed25519", null));
+	}
+
+	private static void register(SignatureEngine engine) {
+		BY_ALG.put(engine.getAlg(), engine);
+		BY_HEADER.put(engine.getHeader(), engine);
+	}
+
+	/**
+	 * alg 를 Base58(type + alg) 토큰 header 로 인코딩
+	 */
+	static String header(String alg) {
+		return Base58Util.encode(("JWS" + alg).getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 설정값으로 발행에 사용할 엔진을 찾음, RSA 는 기존 방식(SHA256-JCS)
+	 * @param algorithm RSA, SHA256withRSA, SHA256withECDSA, Ed25519
+	 * @throws IllegalArgumentException 지원하지 않는 알고리즘
+	 */
+	public static SignatureEngine forAlgorithm(String algorithm) {
+		if ("RSA".equalsIgnoreCase(algorithm)) {
+			return BY_ALG.get(ALG_RSA_CIPHER);
+		}
+		SignatureEngine engine = BY_ALG.get(algorithm);
+		if (engine == null || ALG_LEGACY.equals(algorithm)) {
+			throw new IllegalArgumentException("지원하지 않는 서명 알고리즘입니다: " + algorithm);
+		}
+		return engine;
+	}
+
+	/**
+	 * 토큰 header 로 검증에 사용할 엔진을 찾음
+	 * @param header jws 의 첫 번째 조각
+	 * @throws SignatureException 알 수 없는 header
+	 */
+	public static SignatureEngine forHeader(String header) throws SignatureException {
+		SignatureEngine engine = BY_HEADER.get(header);
+		if (engine == null) {
+			throw new SignatureException("알 수 없는 JWS header 입니다: " + header);
+		}
+		return engine;
+	}
+
+	/**
+	 * 토큰의 alg 로 검증에 사용할 엔진을 찾음 (header 없이 alg 만 담는 CBOR 요청문)
+	 * @param alg 토큰 alg
+	 * @throws SignatureException 알 수 없는 alg, 또는 JSON 직렬화에 의존하는 기존 방식
+	 */
+	public static SignatureEngine forAlg(String alg) throws SignatureException {
+		SignatureEngine engine = BY_ALG.get(alg);
+		if (engine == null || ALG_LEGACY.equals(alg)) {
+			throw new SignatureException("알 수 없는 alg 입니다: " + alg);
+		}
+		return engine;
+	}
+
+	/**
+	 * 등록된 모든 엔진
+	 */
+	public static Collection<SignatureEngine> all() {
+		return Collections.unmodifiableCollection(BY_ALG.values());
+	}
+}
@@ -0,0 +1,189 @@
+package com.example.demo.util;
+
+import java.util.Arrays;
+
+/**
+ * Base58 인코딩 / 디코딩 (bitcoin 알파벳)
+ * bitcoinj Base58 와 결과가 바이트 단위로 같지만, 한 자리씩 58 로 나누는 대신 32비트 limb 단위로 58^5 씩 나누고 곱하여
+ * 1,200 바이트가 넘는 개인키도 빠르게 처리
+ */
+public class Base58Util {
+
+	private static final char[] ALPHABET = "123456789ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnopqrstuvwxyz".toCharArray();
+	private static final int[] INDEXES = new int[128];
+
+	/**
+	 * 한 번에 처리하는 자리 수와 그 크기 (58^5 < 2^32)
+	 */
+	private static final int CHUNK_DIGITS = 5;
+	private static final long CHUNK_BASE = 58L * 58 * 58 * 58 * 58;
+	private static final long[] POWERS = {1L, 58L, 58L * 58, 58L * 58 * 58, 58L * 58 * 58 * 58, CHUNK_BASE};
+
+	static {
+		Arrays.fill(INDEXES, -1);
+		for (int i = 0; i < ALPHABET.length; i++) {
+			INDEXES[ALPHABET[i]] = i;
+		}
+	}
+
+	/**
+	 * 바이트 배열을 Base58 문자열로 변환
+	 * @param input
+	 * @return
+	 */
+	public static String encode(byte[] input) {
+		return encode(input, 0, input.length);
+	}
+
+	/**
+	 * 바이트 배열의 일부를 Base58 문자열로 변환 (재사용 버퍼를 복사 없이 인코딩할 때 사용)
+	 * @param input
+	 * @param offset 시작 위치
+	 * @param inputLength 길이
+	 * @return
+	 */
+	public static String encode(byte[] input, int offset, int inputLength) {
+		if (inputLength == 0) {
+			return "";
+		}
+		int zeros = 0;
+		while (zeros < inputLength && input[offset + zeros] == 0) {
+			zeros++;
+		}
+
+		// 앞의 0 바이트를 뺀 나머지를 big-endian 32비트 limb 로 묶음
+		int length = inputLength - zeros;
+		int[] limbs = new int[(length + 3) / 4];
+		offset += zeros;
+		int first = length % 4 == 0 ? 4 : length % 4;
+		for (int i = 0; i < limbs.length; i++) {
+			int bytes = i == 0 ? first : 4;
+			int limb = 0;
+			for (int j = 0; j < bytes; j++) {
+				limb = (limb << 8) | (input[offset++] & 0xff);
+			}
+			limbs[i] = limb;
+		}
+
+		// 58^5 로 나눈 나머지마다 5 자리씩 뒤에서부터 채움
+		char[] encoded = new char[zeros + length * 138 / 100 + 1 + CHUNK_DIGITS];
+		int outputStart = encoded.length;
+		int start = 0;
+		while (start < limbs.length) {
+			long remainder = 0;
+			for (int i = start; i < limbs.length; i++) {
+				long current = (remainder << 32) | (limbs[i] & 0xffffffffL);
+				limbs[i] = (int) (current / CHUNK_BASE);
+				remainder = current % CHUNK_BASE;
+			}
+			while (start < limbs.length && limbs[start] == 0) {
+				start++;
+			}
+			for (int i = 0; i < CHUNK_DIGITS; i++) {
+				encoded[--outputStart] = ALPHABET[(int) (remainder % 58)];
+				remainder /= 58;
+			}
+		}
+
+		// 마지막 묶음을 채우느라 생긴 앞자리 '1' 은 지우고, 원래의 0 바이트 수만큼 '1' 을 붙임
+		while (outputStart < encoded.length && encoded[outputStart] == ALPHABET[0]) {
+			outputStart++;
+		}
+		while (zeros-- > 0) {
+			encoded[--outputStart] = ALPHABET[0];
+		}
+		return new String(encoded, outputStart, encoded.length - outputStart);
+	}
+
+	/**
+	 * Base58 문자열을 바이트 배열로 복원
+	 * @param input
+	 * @return
+	 * @throws IllegalArgumentException Base58 문자가 아닌 경우
+	 */
+	public static byte[] decode(CharSequence input) {
+		return decode(input, null, 0, input.length());
+	}
+
+	/**
+	 * ASCII 바이트로 된 Base58 을 문자열로 바꾸지 않고 바이트 배열로 복원
+	 * @param input Base58 ASCII 바이트
+	 * @param offset 시작 위치
+	 * @param length 길이
+	 * @return
+	 * @throws IllegalArgumentException Base58 문자가 아닌 경우
+	 */
+	public static byte[] decode(byte[] input, int offset, int length) {
+		return decode(null, input, offset, length);
+	}
+
+	/**
+	 * chars 또는 bytes 중 하나에서 Base58 을 읽어 복원
+	 */
+	private static byte[] decode(CharSequence chars, byte[] bytes, int offset, int inputLength) {
+		if (inputLength == 0) {
+			return new byte[0];
+		}
+		int length = offset + inputLength;
+		int zeros = 0;
+		while (offset + zeros < length && charAt(chars, bytes, offset + zeros) == ALPHABET[0]) {
+			zeros++;
+		}
+		int start = offset + zeros;
+
+		// little-endian 32비트 limb 에 58^5 씩 곱하고 더함
+		int[] limbs = new int[(length - start) * 733 / 4000 + 2];
+		int used = 0;
+		int position = start;
+		int first = (length - start) % CHUNK_DIGITS == 0 ? CHUNK_DIGITS : (length - start) % CHUNK_DIGITS;
+		while (position < length) {
+			int digits = position == start ? first : CHUNK_DIGITS;
+			long chunk = 0;
+			for (int i = 0; i < digits; i++) {
+				chunk = chunk * 58 + digit(chars, bytes, position++);
+			}
+			long multiplier = POWERS[digits];
+			long carry = chunk;
+			for (int i = 0; i < used; i++) {
+				long current = (limbs[i] & 0xffffffffL) * multiplier + carry;
+				limbs[i] = (int) current;
+				carry = current >>> 32;
+			}
+			if (carry != 0) {
+				limbs[used++] = (int) carry;
+			}
+		}
+
+		// limb 를 big-endian 바이트로 풀고 앞의 0 바이트는 입력의 '1' 개수로 다시 맞춤
+		int significant = used * 4;
+		if (used > 0) {
+			int top = limbs[used - 1];
+			while ((top >>> ((significant - (used - 1) * 4 - 1) * 8)) == 0) {
+				significant--;
+			}
+		}
+		byte[] decoded = new byte[zeros + significant];
+		int index = decoded.length;
+		for (int i = 0; i < used; i++) {
+			int limb = limbs[i];
+			for (int j = 0; j < 4 && index > zeros; j++) {
+				decoded[--index] = (byte) limb;
+				limb >>>= 8;
+			}
+		}
+		return decoded;
+	}
+
+	private static char charAt(CharSequence chars, byte[] bytes, int position) {
+		return chars != null ? chars.charAt(position) : (char) (bytes[position] & 0xff);
+	}
+
+	private static int digit(CharSequence chars, byte[] bytes, int position) {
+		char c = charAt(chars, bytes, position);
+		int digit = c < 128 ? INDEXES[c] : -1;
+		if (digit < 0) {
+			throw new IllegalArgumentException("Base58 문자가 아닙니다: '" + c + "' (위치 " + position + ")");
+		}
+		return digit;
+	}
+}
@@ -0,0 +1,522 @@
+package com.example.demo.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 키 / claim / 토큰의 바이너리 코덱 (ByteUtil.objectToBytes 의 Java 직렬화 대신)
+ * 형식마다 스키마가 정해져 있어 클래스 이름이나 필드 설명 없이 값만 담음
+ * - 키    : 'K' | u8 종류(0 공개키 X.509, 1 개인키 PKCS#8) | 알고리즘 | DER
+ * - claim : 'C' | 값, 값은 태그 1바이트 + 내용 (객체는 필드 이름 + 값의 반복과 0, 배열은 값의 반복과 END)
+ * - 토큰  : 'T' | u8 플래그 | header | payload | signature
+ *           payload 가 64자리 16진수의 Base58 (createReqMsg 의 해시) 이면 32바이트로, signature 는 Base64 를 풀어 바이트로 담음
+ * 문자열은 varint 길이 + UTF-8, 바이트는 varint 길이 + 바이트, 숫자는 원래 표기를 그대로 복원
+ * 인코딩은 스레드별로 재사용하는 가변 버퍼에 쓴 뒤 byte[] 로 복사하거나 호출자의 ByteBuffer (힙 / 직접) 에 바로 씀
+ * 잘못된 입력을 디코딩하면 IllegalArgumentException
+ */
+public class BinaryCodec {
+
+	private static final byte KEY = 'K';
+	private static final byte CLAIM = 'C';
+	private static final byte TOKEN = 'T';
+
+	private static final int PUBLIC_KEY = 0;
+	private static final int PRIVATE_KEY = 1;
+
+	private static final int OBJECT = 1;
+	private static final int ARRAY = 2;
+	private static final int END = 3;
+	private static final int STRING = 4;
+	private static final int LONG = 5;
+	private static final int NUMBER = 6;
+	private static final int TRUE = 7;
+	private static final int FALSE = 8;
+	private static final int NULL = 9;
+
+	private static final int TOKEN_HEX_PAYLOAD = 1;
+	private static final int TOKEN_BINARY_SIGNATURE = 2;
+	private static final int HEX_DIGEST_LENGTH = 64;
+
+	/**
+	 * 스레드별 인코딩 버퍼, MAX_BUFFER_SIZE 보다 커지면 다 쓴 뒤 버리고 새로 만듦
+	 */
+	private static final ThreadLocal<Writer> WRITER = ThreadLocal.withInitial(Writer::new);
+	private static final int MAX_BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * 키 인코딩
+	 * @param key 공개키 (X.509) 또는 개인키 (PKCS#8)
+	 * @return 인코딩된 키
+	 */
+	public static byte[] encodeKey(Key key) {
+		return toByteArray(writeKey(key));
+	}
+
+	/**
+	 * 키를 dst 의 현재 위치에 인코딩
+	 * @return 쓴 바이트 수
+	 */
+	public static int encodeKey(Key key, ByteBuffer dst) {
+		return writeTo(writeKey(key), dst);
+	}
+
+	/**
+	 * 키 디코딩
+	 * @param bytes encodeKey 결과
+	 * @return PublicKey 또는 PrivateKey
+	 */
+	public static Key decodeKey(byte[] bytes) throws NoSuchAlgorithmException, InvalidKeySpecException {
+		return decodeKey(ByteBuffer.wrap(bytes));
+	}
+
+	/**
+	 * src 의 현재 위치부터 키 디코딩, position 은 키 다음으로 옮김
+	 */
+	public static Key decodeKey(ByteBuffer src) throws NoSuchAlgorithmException, InvalidKeySpecException {
+		try {
+			readTag(src, KEY);
+			int kind = src.get();
+			String algorithm = readString(src);
+			byte[] encoded = readBytes(src);
+			if (kind == PUBLIC_KEY) {
+				return CryptoPool.keyFactory(algorithm).generatePublic(new X509EncodedKeySpec(encoded));
+			}
+			if (kind == PRIVATE_KEY) {
+				return CryptoPool.keyFactory(algorithm).generatePrivate(new PKCS8EncodedKeySpec(encoded));
+			}
+			throw new IllegalArgumentException("알 수 없는 키 종류입니다: " + kind);
+		} catch (BufferUnderflowException e) {
+			throw new IllegalArgumentException("키가 중간에 끊겼습니다.", e);
+		}
+	}
+
+	/**
+	 * claim 인코딩
+	 * @param claim JSON
+	 * @return 인코딩된 claim
+	 */
+	public static byte[] encodeClaim(String claim) throws IOException {
+		return toByteArray(writeClaim(claim));
+	}
+
+	/**
+	 * claim 을 dst 의 현재 위치에 인코딩
+	 * @return 쓴 바이트 수
+	 */
+	public static int encodeClaim(String claim, ByteBuffer dst) throws IOException {
+		return writeTo(writeClaim(claim), dst);
+	}
+
+	/**
+	 * claim 디코딩
+	 * @param bytes encodeClaim 결과
+	 * @return 공백 없는 JSON
+	 */
+	public static String decodeClaim(byte[] bytes) throws IOException {
+		return decodeClaim(ByteBuffer.wrap(bytes));
+	}
+
+	/**
+	 * src 의 현재 위치부터 claim 디코딩, position 은 claim 다음으로 옮김
+	 */
+	public static String decodeClaim(ByteBuffer src) throws IOException {
+		StringWriter out = new StringWriter();
+		try (JsonGenerator generator = JsonUtil.OBJECT_MAPPER.getFactory().createGenerator(out)) {
+			readTag(src, CLAIM);
+			readValue(src, src.get(), generator);
+		} catch (BufferUnderflowException e) {
+			throw new IllegalArgumentException("claim 이 중간에 끊겼습니다.", e);
+		}
+		return out.toString();
+	}
+
+	/**
+	 * 토큰 인코딩
+	 * @param jws header.payload.signature
+	 * @return 인코딩된 토큰
+	 */
+	public static byte[] encodeToken(String jws) {
+		return toByteArray(writeToken(jws));
+	}
+
+	/**
+	 * 토큰을 dst 의 현재 위치에 인코딩
+	 * @return 쓴 바이트 수
+	 */
+	public static int encodeToken(String jws, ByteBuffer dst) {
+		return writeTo(writeToken(jws), dst);
+	}
+
+	/**
+	 * 토큰 디코딩
+	 * @param bytes encodeToken 결과
+	 * @return header.payload.signature
+	 */
+	public static String decodeToken(byte[] bytes) {
+		return decodeToken(ByteBuffer.wrap(bytes));
+	}
+
+	/**
+	 * src 의 현재 위치부터 토큰 디코딩, position 은 토큰 다음으로 옮김
+	 */
+	public static String decodeToken(ByteBuffer src) {
+		try {
+			readTag(src, TOKEN);
+			int flags = src.get();
+			String header = readString(src);
+			String payload = (flags & TOKEN_HEX_PAYLOAD) != 0 ? hexPayload(readBytes(src)) : readString(src);
+			String signature = (flags & TOKEN_BINARY_SIGNATURE) != 0
+					? Base64.getEncoder().encodeToString(readBytes(src))
+					: readString(src);
+			return header + "." + payload + "." + signature;
+		} catch (BufferUnderflowException e) {
+			throw new IllegalArgumentException("토큰이 중간에 끊겼습니다.", e);
+		}
+	}
+
+	private static String hexPayload(byte[] digest) {
+		if (digest.length != HEX_DIGEST_LENGTH / 2) {
+			throw new IllegalArgumentException("payload 해시 길이가 잘못되었습니다: " + digest.length);
+		}
+		return Base58Util.encode(ByteUtil.bytesToHex(digest, new byte[HEX_DIGEST_LENGTH]));
+	}
+
+	private static Writer writeKey(Key key) {
+		if (!(key instanceof PrivateKey) && !(key instanceof PublicKey)) {
+			throw new IllegalArgumentException("공개키 또는 개인키가 아닙니다: " + key.getClass().getName());
+		}
+		Writer writer = writer();
+		writer.writeByte(KEY);
+		writer.writeByte(key instanceof PrivateKey ? PRIVATE_KEY : PUBLIC_KEY);
+		writer.writeString(key.getAlgorithm());
+		writer.writeBytes(key.getEncoded());
+		return writer;
+	}
+
+	private static Writer writeClaim(String claim) throws IOException {
+		Writer writer = writer();
+		writer.writeByte(CLAIM);
+		try (JsonParser parser = JsonUtil.OBJECT_MAPPER.getFactory().createParser(claim)) {
+			JsonToken token = parser.nextToken();
+			if (token == null) {
+				throw new IllegalArgumentException("claim 이 비어 있습니다.");
+			}
+			writeValue(parser, token, writer);
+		}
+		return writer;
+	}
+
+	private static void writeValue(JsonParser parser, JsonToken token, Writer writer) throws IOException {
+		switch (token) {
+			case START_OBJECT:
+				writer.writeByte(OBJECT);
+				while (parser.nextToken() == JsonToken.FIELD_NAME) {
+					// 필드 이름은 길이 + 1 로 써서 0 을 객체의 끝으로 사용
+					writer.writeString(parser.getCurrentName(), 1);
+					writeValue(parser, parser.nextToken(), writer);
+				}
+				writer.writeVarInt(0);
+				break;
+			case START_ARRAY:
+				writer.writeByte(ARRAY);
+				for (JsonToken item = parser.nextToken(); item != JsonToken.END_ARRAY; item = parser.nextToken()) {
+					writeValue(parser, item, writer);
+				}
+				writer.writeByte(END);
+				break;
+			case VALUE_STRING:
+				writer.writeByte(STRING);
+				writer.writeString(parser.getText());
+				break;
+			case VALUE_NUMBER_INT:
+				// 원래 표기와 같게 복원되는 long 만 varint 로, 나머지 (큰 수, -0) 는 표기 그대로
+				String text = parser.getText();
+				if (parser.getNumberType() == JsonParser.NumberType.INT
+						|| parser.getNumberType() == JsonParser.NumberType.LONG) {
+					long value = parser.getLongValue();
+					if (text.equals(Long.toString(value))) {
+						writer.writeByte(LONG);
+						writer.writeVarLong((value << 1) ^ (value >> 63));
+						break;
+					}
+				}
+				writer.writeByte(NUMBER);
+				writer.writeString(text);
+				break;
+			case VALUE_NUMBER_FLOAT:
+				writer.writeByte(NUMBER);
+				writer.writeString(parser.getText());
+				break;
+			case VALUE_TRUE:
+				writer.writeByte(TRUE);
+				break;
+			case VALUE_FALSE:
+				writer.writeByte(FALSE);
+				break;
+			case VALUE_NULL:
+				writer.writeByte(NULL);
+				break;
+			default:
+				throw new IllegalArgumentException("지원하지 않는 claim 토큰입니다: " + token);
+		}
+	}
+
+	private static void readValue(ByteBuffer src, int tag, JsonGenerator generator) throws IOException {
+		switch (tag) {
+			case OBJECT:
+				generator.writeStartObject();
+				for (int length = readVarInt(src); length != 0; length = readVarInt(src)) {
+					generator.writeFieldName(ByteUtil.bytesToString(src, length - 1));
+					readValue(src, src.get(), generator);
+				}
+				generator.writeEndObject();
+				break;
+			case ARRAY:
+				generator.writeStartArray();
+				for (int item = src.get(); item != END; item = src.get()) {
+					readValue(src, item, generator);
+				}
+				generator.writeEndArray();
+				break;
+			case STRING:
+				generator.writeString(readString(src));
+				break;
+			case LONG:
+				long zigZag = readVarLong(src);
+				generator.writeNumber((zigZag >>> 1) ^ -(zigZag & 1));
+				break;
+			case NUMBER:
+				generator.writeNumber(readString(src));
+				break;
+			case TRUE:
+				generator.writeBoolean(true);
+				break;
+			case FALSE:
+				generator.writeBoolean(false);
+				break;
+			case NULL:
+				generator.writeNull();
+				break;
+			default:
+				throw new IllegalArgumentException("알 수 없는 claim 태그입니다: " + tag);
+		}
+	}
+
+	private static Writer writeToken(String jws) {
+		int first = jws.indexOf('.');
+		int second = first < 0 ? -1 : jws.indexOf('.', first + 1);
+		if (second < 0 || jws.indexOf('.', second + 1) >= 0) {
+			throw new IllegalArgumentException("header.payload.signature 형식이 아닙니다.");
+		}
+		String payload = jws.substring(first + 1, second);
+		String signature = jws.substring(second + 1);
+		byte[] digest = hexDigest(payload);
+		byte[] signatureData = canonicalBase64(signature);
+
+		Writer writer = writer();
+		writer.writeByte(TOKEN);
+		writer.writeByte((digest != null ? TOKEN_HEX_PAYLOAD : 0) | (signatureData != null ? TOKEN_BINARY_SIGNATURE : 0));
+		writer.writeString(jws.substring(0, first));
+		if (digest != null) {
+			writer.writeBytes(digest);
+		} else {
+			writer.writeString(payload);
+		}
+		if (signatureData != null) {
+			writer.writeBytes(signatureData);
+		} else {
+			writer.writeString(signature);
+		}
+		return writer;
+	}
+
+	/**
+	 * Base58(64자리 소문자 16진수) 이면 32바이트 해시, 아니면 null
+	 */
+	private static byte[] hexDigest(String payload) {
+		byte[] hex;
+		try {
+			hex = Base58Util.decode(payload);
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+		if (hex.length != HEX_DIGEST_LENGTH) {
+			return null;
+		}
+		byte[] digest = new byte[HEX_DIGEST_LENGTH / 2];
+		for (int i = 0; i < digest.length; i++) {
+			int high = Character.digit(hex[i * 2], 16);
+			int low = Character.digit(hex[i * 2 + 1], 16);
+			if (high < 0 || low < 0 || Character.isUpperCase(hex[i * 2]) || Character.isUpperCase(hex[i * 2 + 1])) {
+				return null;
+			}
+			digest[i] = (byte) (high << 4 | low);
+		}
+		return digest;
+	}
+
+	/**
+	 * 다시 인코딩했을 때 같은 문자열이 되는 Base64 면 바이트, 아니면 null
+	 */
+	private static byte[] canonicalBase64(String signature) {
+		byte[] decoded;
+		try {
+			decoded = Base64.getDecoder().decode(signature);
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+		return Base64.getEncoder().encodeToString(decoded).equals(signature) ? decoded : null;
+	}
+
+	private static Writer writer() {
+		Writer writer = WRITER.get();
+		writer.size = 0;
+		return writer;
+	}
+
+	private static byte[] toByteArray(Writer writer) {
+		byte[] bytes = Arrays.copyOf(writer.buffer, writer.size);
+		release(writer);
+		return bytes;
+	}
+
+	private static int writeTo(Writer writer, ByteBuffer dst) {
+		int size = writer.size;
+		dst.put(writer.buffer, 0, size);
+		release(writer);
+		return size;
+	}
+
+	private static void release(Writer writer) {
+		if (writer.buffer.length > MAX_BUFFER_SIZE) {
+			WRITER.remove();
+		}
+	}
+
+	private static void readTag(ByteBuffer src, byte expected) {
+		byte tag = src.get();
+		if (tag != expected) {
+			throw new IllegalArgumentException(String.format("'%c' 형식이 아닙니다: %d", (char) expected, tag));
+		}
+	}
+
+	private static String readString(ByteBuffer src) {
+		return ByteUtil.bytesToString(src, readLength(src));
+	}
+
+	private static byte[] readBytes(ByteBuffer src) {
+		byte[] bytes = new byte[readLength(src)];
+		src.get(bytes);
+		return bytes;
+	}
+
+	/**
+	 * 길이를 읽음, 남은 바이트보다 크면 배열을 할당하기 전에 BufferUnderflowException (잘못된 입력으로 처리)
+	 */
+	private static int readLength(ByteBuffer src) {
+		int length = readVarInt(src);
+		if (length > src.remaining()) {
+			throw new BufferUnderflowException();
+		}
+		return length;
+	}
+
+	private static int readVarInt(ByteBuffer src) {
+		long value = readVarLong(src);
+		if (value < 0 || value > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("길이가 너무 큽니다: " + value);
+		}
+		return (int) value;
+	}
+
+	private static long readVarLong(ByteBuffer src) {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			byte b = src.get();
+			value |= (long) (b & 0x7f) << shift;
+			if (b >= 0) {
+				return value;
+			}
+		}
+		throw new IllegalArgumentException("varint 가 10바이트보다 깁니다.");
+	}
+
+	/**
+	 * 늘어나는 바이트 버퍼
+	 */
+	private static final class Writer {
+		private byte[] buffer = new byte[256];
+		private int size;
+
+		private void ensure(int length) {
+			if (size + length > buffer.length) {
+				buffer = Arrays.copyOf(buffer, Math.max(size + length, buffer.length * 2));
+			}
+		}
+
+		private void writeByte(int b) {
+			ensure(1);
+			buffer[size++] = (byte) b;
+		}
+
+		private void writeVarInt(int value) {
+			writeVarLong(value & 0xffffffffL);
+		}
+
+		private void writeVarLong(long value) {
+			ensure(10);
+			while ((value & ~0x7fL) != 0) {
+				buffer[size++] = (byte) ((value & 0x7f) | 0x80);
+				value >>>= 7;
+			}
+			buffer[size++] = (byte) value;
+		}
+
+		private void writeBytes(byte[] bytes) {
+			writeVarInt(bytes.length);
+			ensure(bytes.length);
+			System.arraycopy(bytes, 0, buffer, size, bytes.length);
+			size += bytes.length;
+		}
+
+		private void writeString(String str) {
+			writeString(str, 0);
+		}
+
+		/**
+		 * 길이 + lengthOffset 을 varint 로 쓰고 UTF-8 바이트를 씀, ASCII 는 중간 배열 없이 바로 씀
+		 */
+		private void writeString(String str, int lengthOffset) {
+			int length = ByteUtil.utf8Length(str);
+			writeVarInt(length + lengthOffset);
+			ensure(length);
+			int start = size;
+			for (int i = 0; i < str.length(); i++) {
+				char c = str.charAt(i);
+				if (c >= 0x80) {
+					byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+					System.arraycopy(bytes, 0, buffer, start, bytes.length);
+					size = start + bytes.length;
+					return;
+				}
+				buffer[size++] = (byte) c;
+			}
+		}
+	}
+}
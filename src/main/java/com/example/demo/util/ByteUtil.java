@@ -7,34 +7,151 @@ import java.io.ObjectInput;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutput;
 import java.io.ObjectOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
 public class ByteUtil {
 
+	private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+	private static final byte[] HEX_BYTES = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
 	/**
-	 * 문자열을 바이트 코드로 변환
+	 * 직접(direct) 버퍼를 문자열로 복원할 때 쓰는 스레드별 임시 버퍼, MAX_SCRATCH_SIZE 보다 크면 보관하지 않음
+	 */
+	private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[256]);
+	private static final int MAX_SCRATCH_SIZE = 64 * 1024;
+
+	/**
+	 * 문자열을 바이트 코드로 변환 (UTF-8)
+	 * 캐릭터셋을 이름으로 찾지 않고 StandardCharsets 를 바로 사용
 	 * @param str
 	 * @return
-	 * @throws IOException
 	 */
-	public static byte[] stringToBytes(String str) throws IOException {
-		byte[] byteData = str.getBytes("UTF-8");
-		return byteData;
+	public static byte[] stringToBytes(String str) {
+		return str.getBytes(StandardCharsets.UTF_8);
 	}
 
 	/**
-	 * 바이트 코드르르 문자열로 복원
+	 * 바이트 코드르르 문자열로 복원 (UTF-8)
 	 * @param bytes
 	 * @return
-	 * @throws IOException
 	 */
-	public static String bytesToString(byte[] bytes) throws IOException {
-		String strData = new String(bytes, "UTF-8");
-		return strData;
+	public static String bytesToString(byte[] bytes) {
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * 문자열을 UTF-8 로 dst 의 현재 위치에 씀 (힙 / 직접 버퍼 모두)
+	 * ASCII 문자열은 중간 배열 없이 한 글자씩 바로 씀
+	 * @param str
+	 * @param dst 남은 공간이 utf8Length(str) 이상인 버퍼
+	 * @return 쓴 바이트 수
+	 */
+	public static int stringToBytes(String str, ByteBuffer dst) {
+		int length = str.length();
+		int start = dst.position();
+		for (int i = 0; i < length; i++) {
+			char c = str.charAt(i);
+			if (c >= 0x80) {
+				dst.position(start);
+				byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+				dst.put(bytes);
+				return bytes.length;
+			}
+			dst.put((byte) c);
+		}
+		return length;
+	}
+
+	/**
+	 * 버퍼의 position 부터 length 바이트를 UTF-8 문자열로 복원하고 position 을 그만큼 옮김
+	 * 힙 버퍼는 배열에서 바로, 직접 버퍼는 스레드별 임시 버퍼로 복사하여 복원
+	 * @param src
+	 * @param length
+	 * @return
+	 * @throws BufferUnderflowException length 가 남은 바이트 수보다 크거나 음수인 경우 (복원하거나 할당하기 전에 확인)
+	 */
+	public static String bytesToString(ByteBuffer src, int length) {
+		if (length < 0 || length > src.remaining()) {
+			throw new BufferUnderflowException();
+		}
+		if (src.hasArray()) {
+			String str = new String(src.array(), src.arrayOffset() + src.position(), length, StandardCharsets.UTF_8);
+			src.position(src.position() + length);
+			return str;
+		}
+		byte[] scratch = SCRATCH.get();
+		if (scratch.length < length) {
+			scratch = new byte[Math.max(length, scratch.length * 2)];
+			if (scratch.length <= MAX_SCRATCH_SIZE) {
+				SCRATCH.set(scratch);
+			}
+		}
+		src.get(scratch, 0, length);
+		return new String(scratch, 0, length, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * 문자열의 UTF-8 바이트 수 (변환하지 않고 계산)
+	 * @param str
+	 * @return
+	 */
+	public static int utf8Length(String str) {
+		int length = str.length();
+		int bytes = length;
+		for (int i = 0; i < length; i++) {
+			char c = str.charAt(i);
+			if (c < 0x80) {
+				continue;
+			}
+			if (c < 0x800) {
+				bytes++;
+			} else if (Character.isSurrogate(c)) {
+				// 서로게이트 쌍 2글자 -> 4바이트, 짝이 없는 서로게이트는 getBytes 와 같이 '?' 1바이트
+				if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(str.charAt(i + 1))) {
+					bytes += 2;
+					i++;
+				}
+			} else {
+				bytes += 2;
+			}
+		}
+		return bytes;
+	}
+
+	/**
+	 * 바이트 배열을 16진수 문자열로 변환
+	 * @param bytes
+	 * @return
+	 */
+	public static String bytesToHex(byte[] bytes) {
+		char[] hex = new char[bytes.length * 2];
+		for (int i = 0; i < bytes.length; i++) {
+			hex[i * 2] = HEX_CHARS[(bytes[i] >> 4) & 0x0f];
+			hex[i * 2 + 1] = HEX_CHARS[bytes[i] & 0x0f];
+		}
+		return new String(hex);
+	}
+
+	/**
+	 * 바이트 배열을 16진수 ASCII 바이트로 변환하여 dst 에 씀
+	 * bytesToHex 후 stringToBytes 한 결과와 같지만 중간 문자열 없이 호출자의 버퍼를 재사용
+	 * @param bytes
+	 * @param dst bytes.length * 2 이상인 버퍼
+	 * @return dst
+	 */
+	public static byte[] bytesToHex(byte[] bytes, byte[] dst) {
+		for (int i = 0; i < bytes.length; i++) {
+			dst[i * 2] = HEX_BYTES[(bytes[i] >> 4) & 0x0f];
+			dst[i * 2 + 1] = HEX_BYTES[bytes[i] & 0x0f];
+		}
+		return dst;
 	}
 
 	/**
 	 * 객체를 바이트 배열로 변환
-	 * Serialization
+	 * Serialization, 느리고 결과가 크므로 키 / claim / 토큰은 BinaryCodec 을 사용
 	 * @param obj
 	 * @return
 	 * @throws IOException
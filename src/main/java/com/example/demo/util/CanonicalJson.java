@@ -0,0 +1,258 @@
+package com.example.demo.util;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JSON 정규화 해시 (RFC 8785 JCS 방식)
+ * Jackson 파서의 토큰을 트리나 문자열로 만들지 않고 정규화된 UTF-8 바이트로 바로 MessageDigest 에 넣음
+ * - 객체 멤버는 키의 UTF-16 코드 단위 순서로 정렬 (정렬을 위해 객체 안의 멤버 값만 바이트로 버퍼링)
+ * - 공백 없음, 문자열은 ", \, 제어 문자만 이스케이프 (짝이 맞지 않는 서로게이트는 거부)
+ * - 숫자는 double 로 읽어 ECMAScript Number.toString 형식으로 씀 (자릿수는 Double.toString 기준이라 일부 값은 최단 표현과 다를 수 있음)
+ */
+public class CanonicalJson {
+
+	private static final byte[] HEX_BYTES = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+
+	/**
+	 * JSON 문자열의 첫 값을 정규화하여 해시
+	 * @param json
+	 * @param digest
+	 * @return 해시
+	 * @throws IOException JSON 이 아닌 경우 (JsonProcessingException)
+	 */
+	public static byte[] digest(String json, MessageDigest digest) throws IOException {
+		try (JsonParser parser = JsonUtil.OBJECT_MAPPER.getFactory().createParser(json)) {
+			parser.nextToken();
+			return digest(parser, digest);
+		}
+	}
+
+	/**
+	 * 파서의 현재 값을 정규화하여 해시, 끝나면 파서는 해당 값의 마지막 토큰에 위치
+	 * @param parser 값의 첫 토큰에 위치한 파서
+	 * @param digest
+	 * @return 해시
+	 * @throws IOException JSON 이 아닌 경우 (JsonProcessingException)
+	 */
+	public static byte[] digest(JsonParser parser, MessageDigest digest) throws IOException {
+		write(parser, parser.currentToken(), new DigestOutput(digest));
+		return digest.digest();
+	}
+
+	private static void write(JsonParser parser, JsonToken token, OutputStream out) throws IOException {
+		if (token == null) {
+			throw new JsonParseException(parser, "정규화할 JSON 값이 없습니다.");
+		}
+		switch (token) {
+			case START_OBJECT:
+				writeObject(parser, out);
+				break;
+			case START_ARRAY:
+				out.write('[');
+				JsonToken element = parser.nextToken();
+				for (boolean first = true; element != JsonToken.END_ARRAY; element = parser.nextToken(), first = false) {
+					if (!first) {
+						out.write(',');
+					}
+					write(parser, element, out);
+				}
+				out.write(']');
+				break;
+			case VALUE_STRING:
+				writeString(parser, parser.getText(), out);
+				break;
+			case VALUE_NUMBER_INT:
+			case VALUE_NUMBER_FLOAT:
+				double value = parser.getDoubleValue();
+				if (Double.isNaN(value) || Double.isInfinite(value)) {
+					throw new JsonParseException(parser, "정규화할 수 없는 숫자입니다: " + parser.getText());
+				}
+				writeAscii(formatNumber(value), out);
+				break;
+			case VALUE_TRUE:
+				out.write(TRUE);
+				break;
+			case VALUE_FALSE:
+				out.write(FALSE);
+				break;
+			case VALUE_NULL:
+				out.write(NULL);
+				break;
+			default:
+				throw new JsonParseException(parser, "정규화할 수 없는 토큰입니다: " + token);
+		}
+	}
+
+	/**
+	 * 멤버 값을 버퍼에 정규화해 두었다가 키 순서로 씀
+	 */
+	private static void writeObject(JsonParser parser, OutputStream out) throws IOException {
+		Map<String, byte[]> members = new TreeMap<>();
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String name = parser.getCurrentName();
+			buffer.reset();
+			write(parser, parser.nextToken(), buffer);
+			if (members.put(name, buffer.toByteArray()) != null) {
+				throw new JsonParseException(parser, "중복된 키입니다: " + name);
+			}
+		}
+
+		out.write('{');
+		boolean first = true;
+		for (Map.Entry<String, byte[]> member : members.entrySet()) {
+			if (!first) {
+				out.write(',');
+			}
+			first = false;
+			writeString(parser, member.getKey(), out);
+			out.write(':');
+			out.write(member.getValue());
+		}
+		out.write('}');
+	}
+
+	/**
+	 * 짝이 맞지 않는 서로게이트는 UTF-8 로 인코딩하면 '?' 로 바뀌어 서로 다른 문자열이 같은 해시가 되므로 거부 (I-JSON)
+	 */
+	private static void writeString(JsonParser parser, String value, OutputStream out) throws IOException {
+		out.write('"');
+		int length = value.length();
+		for (int i = 0; i < length; i++) {
+			char c = value.charAt(i);
+			if (c >= 0x80) {
+				// ASCII 가 아닌 구간은 모아서 UTF-8 로 인코딩
+				int start = i;
+				while (i + 1 < length && value.charAt(i + 1) >= 0x80) {
+					i++;
+				}
+				checkSurrogates(parser, value, start, i + 1);
+				out.write(value.substring(start, i + 1).getBytes(StandardCharsets.UTF_8));
+			} else if (c == '"' || c == '\\') {
+				out.write('\\');
+				out.write(c);
+			} else if (c >= 0x20) {
+				out.write(c);
+			} else {
+				out.write('\\');
+				switch (c) {
+					case '\b':
+						out.write('b');
+						break;
+					case '\t':
+						out.write('t');
+						break;
+					case '\n':
+						out.write('n');
+						break;
+					case '\f':
+						out.write('f');
+						break;
+					case '\r':
+						out.write('r');
+						break;
+					default:
+						out.write('u');
+						out.write('0');
+						out.write('0');
+						out.write(HEX_BYTES[c >> 4]);
+						out.write(HEX_BYTES[c & 0x0f]);
+				}
+			}
+		}
+		out.write('"');
+	}
+
+	private static void checkSurrogates(JsonParser parser, String value, int start, int end) throws JsonParseException {
+		for (int i = start; i < end; i++) {
+			char c = value.charAt(i);
+			if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(value.charAt(i + 1))) {
+				i++;
+			} else if (Character.isSurrogate(c)) {
+				throw new JsonParseException(parser, "짝이 맞지 않는 서로게이트 문자가 있습니다: \\u" + Integer.toHexString(c));
+			}
+		}
+	}
+
+	/**
+	 * ECMAScript Number.prototype.toString 형식
+	 * ex) 1.0 -> 1, 1e21 -> 1e+21, 0.0000001 -> 1e-7, -0 -> 0
+	 */
+	static String formatNumber(double value) {
+		if (value == 0) {
+			return "0";
+		}
+		if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+			return Long.toString((long) value);
+		}
+
+		BigDecimal decimal = new BigDecimal(Double.toString(Math.abs(value))).stripTrailingZeros();
+		String digits = decimal.unscaledValue().toString();
+		int k = digits.length();
+		int n = k - decimal.scale();
+
+		StringBuilder number = new StringBuilder(value < 0 ? "-" : "");
+		if (k <= n && n <= 21) {
+			number.append(digits);
+			for (int i = k; i < n; i++) {
+				number.append('0');
+			}
+		} else if (0 < n && n <= 21) {
+			number.append(digits, 0, n).append('.').append(digits, n, k);
+		} else if (-6 < n && n <= 0) {
+			number.append("0.");
+			for (int i = n; i < 0; i++) {
+				number.append('0');
+			}
+			number.append(digits);
+		} else {
+			number.append(digits.charAt(0));
+			if (k > 1) {
+				number.append('.').append(digits, 1, k);
+			}
+			number.append('e').append(n - 1 < 0 ? '-' : '+').append(Math.abs(n - 1));
+		}
+		return number.toString();
+	}
+
+	private static void writeAscii(String value, OutputStream out) throws IOException {
+		for (int i = 0; i < value.length(); i++) {
+			out.write(value.charAt(i));
+		}
+	}
+
+	/**
+	 * 쓰는 대로 MessageDigest 에 넣는 스트림
+	 */
+	private static final class DigestOutput extends OutputStream {
+		private final MessageDigest digest;
+
+		private DigestOutput(MessageDigest digest) {
+			this.digest = digest;
+		}
+
+		@Override
+		public void write(int b) {
+			digest.update((byte) b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			digest.update(b, off, len);
+		}
+	}
+}
@@ -0,0 +1,89 @@
+package com.example.demo.util;
+
+import javax.crypto.Cipher;
+import javax.crypto.NoSuchPaddingException;
+import java.security.KeyFactory;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Signature;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 암호화 객체 풀
+ * Cipher, MessageDigest, KeyFactory, Signature 는 provider 조회와 생성 비용이 크므로 스레드별로 하나씩 만들어 재사용
+ * 리턴된 객체는 같은 스레드 안에서 한 번의 연산에만 사용하고 필드나 다른 스레드로 넘기지 않아야 함
+ */
+public class CryptoPool {
+
+	private static final ThreadLocal<Map<String, Cipher>> CIPHERS = ThreadLocal.withInitial(HashMap::new);
+	private static final ThreadLocal<Map<String, MessageDigest>> DIGESTS = ThreadLocal.withInitial(HashMap::new);
+	private static final ThreadLocal<Map<String, KeyFactory>> KEY_FACTORIES = ThreadLocal.withInitial(HashMap::new);
+	private static final ThreadLocal<Map<String, Signature>> SIGNATURES = ThreadLocal.withInitial(HashMap::new);
+
+	/**
+	 * 현재 스레드의 Cipher 를 리턴, 사용 전 반드시 init 을 호출하므로 이전 상태는 남지 않음
+	 *
+	 * @param transformation 변환 이름 (ex. RSA)
+	 * @return Cipher
+	 */
+	public static Cipher cipher(String transformation) throws NoSuchAlgorithmException, NoSuchPaddingException {
+		Map<String, Cipher> ciphers = CIPHERS.get();
+		Cipher cipher = ciphers.get(transformation);
+		if (cipher == null) {
+			cipher = Cipher.getInstance(transformation);
+			ciphers.put(transformation, cipher);
+		}
+		return cipher;
+	}
+
+	/**
+	 * 현재 스레드의 MessageDigest 를 초기화하여 리턴
+	 *
+	 * @param algorithm 해시 알고리즘 (ex. SHA-256)
+	 * @return MessageDigest
+	 */
+	public static MessageDigest digest(String algorithm) throws NoSuchAlgorithmException {
+		Map<String, MessageDigest> digests = DIGESTS.get();
+		MessageDigest digest = digests.get(algorithm);
+		if (digest == null) {
+			digest = MessageDigest.getInstance(algorithm);
+			digests.put(algorithm, digest);
+		} else {
+			digest.reset();
+		}
+		return digest;
+	}
+
+	/**
+	 * 현재 스레드의 KeyFactory 를 리턴, KeyFactory 는 상태가 없으므로 초기화가 필요 없음
+	 *
+	 * @param algorithm 키 알고리즘 (ex. RSA)
+	 * @return KeyFactory
+	 */
+	public static KeyFactory keyFactory(String algorithm) throws NoSuchAlgorithmException {
+		Map<String, KeyFactory> keyFactories = KEY_FACTORIES.get();
+		KeyFactory keyFactory = keyFactories.get(algorithm);
+		if (keyFactory == null) {
+			keyFactory = KeyFactory.getInstance(algorithm);
+			keyFactories.put(algorithm, keyFactory);
+		}
+		return keyFactory;
+	}
+
+	/**
+	 * 현재 스레드의 Signature 를 리턴, 사용 전 반드시 initSign / initVerify 를 호출하므로 이전 상태는 남지 않음
+	 *
+	 * @param algorithm 서명 알고리즘 (ex. SHA256withECDSA)
+	 * @return Signature
+	 */
+	public static Signature signature(String algorithm) throws NoSuchAlgorithmException {
+		Map<String, Signature> signatures = SIGNATURES.get();
+		Signature signature = signatures.get(algorithm);
+		if (signature == null) {
+			signature = Signature.getInstance(algorithm);
+			signatures.put(algorithm, signature);
+		}
+		return signature;
+	}
+}
@@ -9,10 +9,14 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
 import com.google.gson.ExclusionStrategy;
 import com.google.gson.FieldAttributes;
 import com.google.gson.Gson;
@@ -24,7 +28,9 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Type;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -42,6 +48,10 @@ public class JsonUtil {
 			.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
 			.serializationInclusion(JsonInclude.Include.NON_NULL)
 			.build();
+	/**
+	 * CBOR 파서 / 생성기 팩토리 (바이너리 요청문)
+	 */
+	public static final CBORFactory CBOR_FACTORY = new CBORFactory();
 	/**
 	 * GSON JSON 매퍼
 	 */
@@ -53,6 +63,12 @@ public class JsonUtil {
 	private static final ObjectWriter PRETTY_WRITER = OBJECT_MAPPER.writerWithDefaultPrettyPrinter();
 	private static final CsvMapper CSV_MAPPER = (CsvMapper) new CsvMapper()
 			.configure(JsonGenerator.Feature.IGNORE_UNKNOWN, true);
+	private static final ObjectReader CSV_ROW_READER = CSV_MAPPER
+			.readerFor(new TypeReference<LinkedHashMap<String, String>>() {
+			})
+			.with(CsvSchema.emptySchema().withHeader());
+	private static final ObjectWriter CSV_ROW_WRITER = CSV_MAPPER
+			.writer(CsvSchema.emptySchema().withLineSeparator(""));
 
 	/**
 	 * 해당 객체를 JSON 정보로 변환
@@ -282,6 +298,28 @@ public class JsonUtil {
 
 
 
+	/**
+	 * 첫 줄을 헤더로 하는 CSV 를 한 행씩 {헤더: 값} 맵으로 읽음
+	 * 행을 읽는 대로 돌려주므로 파일 크기와 상관없이 한 행 만큼의 메모리만 사용
+	 * 헤더 컬럼 순서는 첫 행을 읽은 뒤 getParserSchema() 의 CsvSchema 로 확인
+	 *
+	 * @param in CSV 입력
+	 * @return 행 반복자
+	 */
+	public static MappingIterator<Map<String, String>> readCsvRows(InputStream in) throws IOException {
+		return CSV_ROW_READER.readValues(in);
+	}
+
+	/**
+	 * 값 목록을 CSV 한 행으로 변환 (줄바꿈 제외), 필요한 값만 따옴표로 감쌈
+	 *
+	 * @param values 컬럼 값 (null 은 빈 값)
+	 * @return CSV 한 행
+	 */
+	public static byte[] writeCsvRow(String... values) throws JsonProcessingException {
+		return CSV_ROW_WRITER.writeValueAsBytes(values);
+	}
+
 	/**
 	 * 해당 객체를 복사하여 원한는 클래스 타입의 객체로 변환
 	 *
@@ -0,0 +1,111 @@
+package com.example.demo.util;
+
+import com.example.demo.model.VerifyReason;
+import com.google.common.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 토큰 발행 / 검증 단계별 지표 (Micrometer)
+ * Metrics.globalRegistry 에 등록하므로 Spring Boot Actuator 가 있으면 /actuator/metrics 로 노출되고,
+ * 오프라인 도구처럼 레지스트리가 없으면 아무 것도 기록하지 않음
+ * 타이머는 미리 만들어 둔 것을 사용하고 System.nanoTime 차이만 기록하므로 운영에서 켜 두어도 부담이 적음
+ *
+ * - jws.stage (operation=create|verify, stage=...) : 단계별 소요 시간
+ * - jws.key.resolve (source=cache|parse|file) : 키 조회 경로별 소요 시간
+ * - jws.verify.result (reason=...) : 검증 결과 사유별 건수
+ * - jws.keypair.pool.take (result=hit|starvation), jws.keypair.pool.size : 키 페어 풀에서 꺼낸 결과별 건수, 남은 수
+ */
+public class JwsMetrics {
+
+	public static final String STAGE = "jws.stage";
+	public static final String KEY_RESOLVE = "jws.key.resolve";
+	public static final String VERIFY_RESULT = "jws.verify.result";
+	public static final String KEY_PAIR_POOL_TAKE = "jws.keypair.pool.take";
+	public static final String KEY_PAIR_POOL_SIZE = "jws.keypair.pool.size";
+
+	private static final Map<VerifyReason, Counter> VERIFY_RESULTS = new EnumMap<>(VerifyReason.class);
+
+	static {
+		for (VerifyReason reason : VerifyReason.values()) {
+			VERIFY_RESULTS.put(reason, Counter.builder(VERIFY_RESULT)
+					.description("검증 결과 사유별 건수")
+					.tag("reason", reason.name())
+					.register(Metrics.globalRegistry));
+		}
+	}
+
+	/**
+	 * 단계별 타이머, 호출하는 쪽에서 static 필드로 보관하여 사용
+	 * @param operation create / verify
+	 * @param stage 단계 이름
+	 */
+	public static Timer stage(String operation, String stage) {
+		return Timer.builder(STAGE)
+				.description("토큰 발행 / 검증 단계별 소요 시간")
+				.tag("operation", operation)
+				.tag("stage", stage)
+				.register(Metrics.globalRegistry);
+	}
+
+	/**
+	 * 키 조회 경로별 타이머
+	 * @param source cache (캐시 조회), parse (Base58 복원 + KeyFactory), file (키 파일 읽기)
+	 */
+	public static Timer keyResolve(String source) {
+		return Timer.builder(KEY_RESOLVE)
+				.description("키 조회 경로별 소요 시간")
+				.tag("source", source)
+				.register(Metrics.globalRegistry);
+	}
+
+	/**
+	 * start 부터 지금까지의 시간을 기록하고 지금 시각을 리턴, 다음 단계의 start 로 이어서 사용
+	 */
+	public static long record(Timer timer, long start) {
+		long now = System.nanoTime();
+		timer.record(now - start, TimeUnit.NANOSECONDS);
+		return now;
+	}
+
+	/**
+	 * 검증 결과 건수 증가
+	 */
+	public static void countVerifyResult(VerifyReason reason) {
+		VERIFY_RESULTS.get(reason).increment();
+	}
+
+	/**
+	 * 키 페어 풀의 남은 수와 hit / starvation 건수를 등록, 값은 조회할 때 pool 에서 읽음
+	 */
+	public static <T> void monitorKeyPairPool(T pool, ToDoubleFunction<T> size, ToDoubleFunction<T> hitCount,
+			ToDoubleFunction<T> starvationCount) {
+		Gauge.builder(KEY_PAIR_POOL_SIZE, pool, size)
+				.description("키 페어 풀에 남은 키 페어 수")
+				.register(Metrics.globalRegistry);
+		FunctionCounter.builder(KEY_PAIR_POOL_TAKE, pool, hitCount)
+				.description("키 페어 풀에서 꺼낸 결과별 건수")
+				.tag("result", "hit")
+				.register(Metrics.globalRegistry);
+		FunctionCounter.builder(KEY_PAIR_POOL_TAKE, pool, starvationCount)
+				.description("키 페어 풀에서 꺼낸 결과별 건수")
+				.tag("result", "starvation")
+				.register(Metrics.globalRegistry);
+	}
+
+	/**
+	 * Guava 캐시의 크기, hit / miss, eviction 을 cache 태그로 등록
+	 */
+	public static void monitor(Cache<?, ?> cache, String name) {
+		GuavaCacheMetrics.monitor(Metrics.globalRegistry, cache, name);
+	}
+}
@@ -0,0 +1,97 @@
+package com.example.demo.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * JDK 21 가상 스레드 (Thread.ofVirtual) 를 메서드 핸들로 사용
+ * 빌드는 Java 11 기준이고 가상 스레드 API 는 21 부터 있어 직접 쓸 수 없으므로, 실행 JDK 에 없으면 isSupported() 가 false 이고 isVirtual() 은 항상 false
+ */
+public class VirtualThreads {
+
+	private static final MethodHandle IS_VIRTUAL;
+	private static final MethodHandle OF_VIRTUAL;
+	private static final MethodHandle BUILDER_NAME;
+	private static final MethodHandle BUILDER_FACTORY;
+	private static final MethodHandle NEW_THREAD_PER_TASK_EXECUTOR;
+
+	static {
+		MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+		MethodHandle isVirtual = null;
+		MethodHandle ofVirtual = null;
+		MethodHandle builderName = null;
+		MethodHandle builderFactory = null;
+		MethodHandle newThreadPerTaskExecutor = null;
+		try {
+			Class<?> builder = Class.forName("java.lang.Thread$Builder");
+			Class<?> ofVirtualBuilder = Class.forName("java.lang.Thread$Builder$OfVirtual");
+			isVirtual = lookup.findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+			ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(ofVirtualBuilder));
+			builderName = lookup.findVirtual(builder, "name", MethodType.methodType(builder, String.class, long.class));
+			builderFactory = lookup.findVirtual(builder, "factory", MethodType.methodType(ThreadFactory.class));
+			newThreadPerTaskExecutor = lookup.findStatic(java.util.concurrent.Executors.class, "newThreadPerTaskExecutor",
+					MethodType.methodType(ExecutorService.class, ThreadFactory.class));
+		} catch (ReflectiveOperationException e) {
+			isVirtual = null;
+		}
+		IS_VIRTUAL = isVirtual;
+		OF_VIRTUAL = ofVirtual;
+		BUILDER_NAME = builderName;
+		BUILDER_FACTORY = builderFactory;
+		NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+	}
+
+	/**
+	 * 실행 중인 JDK 가 가상 스레드를 지원하는지 여부
+	 */
+	public static boolean isSupported() {
+		return IS_VIRTUAL != null;
+	}
+
+	/**
+	 * 가상 스레드인지 여부, 지원하지 않는 JDK 에서는 항상 false
+	 */
+	public static boolean isVirtual(Thread thread) {
+		if (IS_VIRTUAL == null) {
+			return false;
+		}
+		try {
+			return (boolean) IS_VIRTUAL.invokeExact(thread);
+		} catch (Throwable e) {
+			return false;
+		}
+	}
+
+	/**
+	 * 이름이 prefix0, prefix1 ... 인 가상 스레드 팩토리
+	 * @throws UnsupportedOperationException 가상 스레드를 지원하지 않는 JDK
+	 */
+	public static ThreadFactory factory(String prefix) {
+		if (!isSupported()) {
+			throw new UnsupportedOperationException("가상 스레드는 JDK 21 이상에서만 사용할 수 있습니다.");
+		}
+		try {
+			Object builder = OF_VIRTUAL.invoke();
+			builder = BUILDER_NAME.invoke(builder, prefix, 0L);
+			return (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+		} catch (Throwable e) {
+			throw new IllegalStateException("가상 스레드 팩토리를 만들지 못했습니다.", e);
+		}
+	}
+
+	/**
+	 * 작업마다 가상 스레드를 하나씩 만드는 ExecutorService
+	 * @throws UnsupportedOperationException 가상 스레드를 지원하지 않는 JDK
+	 */
+	public static ExecutorService newThreadPerTaskExecutor(String prefix) {
+		ThreadFactory factory = factory(prefix);
+		try {
+			return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(factory);
+		} catch (Throwable e) {
+			throw new IllegalStateException("가상 스레드 실행기를 만들지 못했습니다.", e);
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package com.example.demo.config;
+
+import com.example.demo.util.CryptoPool;
+import com.example.demo.util.VirtualThreads;
+import org.junit.jupiter.api.Test;
+
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 요청마다 새로 만드는 가상 스레드에서 호출해도 암호 연산은 풀 스레드에서 실행되어 CryptoPool 객체를 재사용하는지 확인
+ * 가상 스레드를 지원하는 JDK (21 이상) 에서만 실행
+ */
+class CryptoExecutorTest {
+
+	private static final int REQUESTS = 50;
+
+	@Test
+	void call_reusesPooledInstancesFromVirtualThreads() throws Exception {
+		assumeTrue(VirtualThreads.isSupported(), "가상 스레드를 지원하지 않는 JDK 입니다.");
+		VerifyProperties verifyProperties = new VerifyProperties() {};
+		verifyProperties.setCryptoParallelism(2);
+		CryptoExecutor cryptoExecutor = new CryptoExecutor(verifyProperties);
+		ExecutorService requests = VirtualThreads.newThreadPerTaskExecutor("request-");
+		try {
+			List<Future<MessageDigest>> direct = new ArrayList<>();
+			List<Future<MessageDigest>> handedOff = new ArrayList<>();
+			for (int i = 0; i < REQUESTS; i++) {
+				direct.add(requests.submit(() -> CryptoPool.digest("SHA-256")));
+				handedOff.add(requests.submit(() -> cryptoExecutor.call(() -> {
+					assertTrue(Thread.currentThread().getName().startsWith("crypto-"));
+					return CryptoPool.digest("SHA-256");
+				})));
+			}
+
+			// 가상 스레드에서 바로 쓰면 요청마다 새로 만들고, 풀에 넘기면 풀 스레드 수만큼만 만듦
+			assertEquals(REQUESTS, distinct(direct).size());
+			assertTrue(distinct(handedOff).size() <= verifyProperties.getCryptoParallelism());
+		} finally {
+			requests.shutdown();
+			cryptoExecutor.destroy();
+		}
+	}
+
+	private static Set<MessageDigest> distinct(List<Future<MessageDigest>> futures) throws Exception {
+		Set<MessageDigest> digests = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (Future<MessageDigest> future : futures) {
+			digests.add(future.get());
+		}
+		return digests;
+	}
+}
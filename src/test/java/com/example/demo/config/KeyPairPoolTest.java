@@ -0,0 +1,47 @@
+package com.example.demo.config;
+
+import com.example.demo.signature.SignatureEngines;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * 키 페어 풀이 채워진 키를 꺼내고, 비어 있으면 바로 생성하는지 확인
+ */
+class KeyPairPoolTest {
+
+	@Test
+	void take_fromPoolThenInline() throws Exception {
+		VerifyProperties verifyProperties = new VerifyProperties() {};
+		verifyProperties.setAlgorithm(SignatureEngines.ALG_EDDSA);
+		verifyProperties.setKeyPairPoolDepth(2);
+		CryptoExecutor cryptoExecutor = new CryptoExecutor(verifyProperties);
+		KeyPairPool keyPairPool = new KeyPairPool(verifyProperties, new RsaKeyGenerator(verifyProperties),
+				cryptoExecutor);
+		keyPairPool.afterPropertiesSet();
+		try {
+			for (int i = 0; i < 100 && keyPairPool.size() < 2; i++) {
+				Thread.sleep(50);
+			}
+			assertEquals(2, keyPairPool.size());
+
+			KeyPair keyPair = keyPairPool.take();
+			assertNotNull(keyPair.getPrivate());
+			assertEquals(1, keyPairPool.getHitCount());
+		} finally {
+			keyPairPool.destroy();
+		}
+
+		verifyProperties.setKeyPairPoolDepth(0);
+		KeyPairPool disabled = new KeyPairPool(verifyProperties, new RsaKeyGenerator(verifyProperties),
+				cryptoExecutor);
+		disabled.afterPropertiesSet();
+		assertNotNull(disabled.take());
+		assertEquals(0, disabled.getHitCount());
+		assertEquals(0, disabled.getStarvationCount());
+		cryptoExecutor.destroy();
+	}
+}
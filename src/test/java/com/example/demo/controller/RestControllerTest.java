@@ -5,15 +5,29 @@ import com.example.demo.util.JsonUtil;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpSession;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.nio.charset.StandardCharsets;
+import java.security.spec.InvalidKeySpecException;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(JwsRestController.class)
@@ -96,6 +110,35 @@ class RestControllerTest {
 				});
 
 	}
+	@Test
+	void A_createKeyPairBulk() throws Exception {
+		MvcResult result = mvc.perform(get("/createKeyPair/bulk")
+						.param("count", "3")
+						.session(SESSION))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		String response = mvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+
+		String[] lines = response.trim().split("\n");
+		assertEquals(3, lines.length);
+		Set<Object> indexes = new HashSet<>();
+		for (String line : lines) {
+			Map<String, Object> item = JsonUtil.readValueMap(line);
+			indexes.add(item.get("index"));
+			assertNotNull(item.get("publicKey"));
+			assertNotNull(item.get("privateKey"));
+		}
+		assertEquals(3, indexes.size());
+
+		mvc.perform(get("/createKeyPair/bulk")
+						.param("count", "0")
+						.session(SESSION))
+				.andExpect(status().isBadRequest());
+	}
+
 	@Test
 	void B_createReqMsg() throws Exception {
 		mvc.perform(post("/createReqMsg")
@@ -118,6 +161,196 @@ class RestControllerTest {
 				.andExpect(jsonPath("$").isNotEmpty());
 	}
 
+	@Test
+	void B_createReqMsgBatch() throws Exception {
+		MvcResult result = mvc.perform(post("/createReqMsg/batch")
+						.content(claim + "\n" + claim + "\n\"not a claim\"")
+						.session(SESSION))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		String response = mvc.perform(asyncDispatch(result))
+				.andDo(print())
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+
+		String[] lines = response.trim().split("\\n");
+		assertEquals(3, lines.length);
+		assertEquals("JWS", JsonUtil.readValueMap(lines[0]).get("type"));
+		assertEquals("JWS", JsonUtil.readValueMap(lines[1]).get("type"));
+		assertEquals(2, JsonUtil.readValueMap(lines[2]).get("index"));
+	}
+
+	@Test
+	void D_verifyJwsBatch() throws Exception {
+		MvcResult result = mvc.perform(post("/verifyReqMsg/batch")
+						.content("[" + reqMsg + ", {\"jws\" : \"...\"}]")
+						.session(SESSION))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		String response = mvc.perform(asyncDispatch(result))
+				.andDo(print())
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+
+		String[] lines = response.trim().split("\n");
+		assertEquals(2, lines.length);
+		for (String line : lines) {
+			Map<String, Object> item = JsonUtil.readValueMap(line);
+			if ((Integer) item.get("index") == 1) {
+				assertEquals(false, item.get("valid"));
+				assertEquals("MALFORMED_MESSAGE", item.get("reason"));
+			}
+		}
+	}
+
+	@Test
+	void F_issuerKid() throws Exception {
+		Map<String, Object> keyPair = JsonUtil.readValueMap(mvc.perform(get("/createKeyPair"))
+				.andReturn().getResponse().getContentAsString());
+		String kid = (String) JsonUtil.readValueMap(mvc.perform(post("/issuers")
+						.param("publicKey", (String) keyPair.get("publicKey")))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString()).get("kid");
+
+		mvc.perform(get("/issuers/" + kid))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.publicKey").value(keyPair.get("publicKey")));
+		mvc.perform(get("/issuers/unknown"))
+				.andExpect(status().isNotFound());
+
+		String kidReqMsg = mvc.perform(post("/createReqMsg")
+						.param("kid", kid)
+						.param("privateKey", (String) keyPair.get("privateKey"))
+						.content(claim))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.kid").value(kid))
+				.andExpect(jsonPath("$.publicKey").doesNotExist())
+				.andReturn().getResponse().getContentAsString();
+		mvc.perform(post("/verifyReqMsg")
+						.content(kidReqMsg))
+				.andExpect(status().isOk());
+
+		// 다른 키의 개인키나 개인키 없이 kid 만으로는 검증할 수 없는 토큰이므로 발행하지 않음
+		Map<String, Object> otherKeyPair = JsonUtil.readValueMap(mvc.perform(get("/createKeyPair"))
+				.andReturn().getResponse().getContentAsString());
+		Exception mismatch = assertThrows(Exception.class, () -> mvc.perform(post("/createReqMsg")
+				.param("kid", kid)
+				.param("privateKey", (String) otherKeyPair.get("privateKey"))
+				.content(claim)));
+		assertTrue(mismatch.getCause() instanceof InvalidKeySpecException);
+		Exception missing = assertThrows(Exception.class, () -> mvc.perform(post("/createReqMsg")
+				.param("kid", kid)
+				.content(claim)));
+		assertTrue(missing.getCause() instanceof InvalidKeySpecException);
+	}
+
+	@Test
+	void G_cborReqMsg() throws Exception {
+		byte[] cbor = mvc.perform(post("/createReqMsg")
+						.accept(MediaType.APPLICATION_CBOR)
+						.content(claim))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+				.andReturn().getResponse().getContentAsByteArray();
+		String json = mvc.perform(post("/createReqMsg")
+						.content(claim))
+				.andReturn().getResponse().getContentAsString();
+		assertTrue(cbor.length < json.length());
+
+		mvc.perform(post("/verifyReqMsg")
+						.contentType(MediaType.APPLICATION_CBOR)
+						.content(cbor))
+				.andExpect(status().isOk());
+
+		// credentialSubject 의 값을 바꾸면 담겨 온 digest 와 달라 실패
+		String text = new String(cbor, StandardCharsets.ISO_8859_1);
+		cbor[text.indexOf("test") + 3] = 'u';
+		mvc.perform(post("/verifyReqMsg")
+						.contentType(MediaType.APPLICATION_CBOR)
+						.content(cbor))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void H_compactReqMsg() throws Exception {
+		String compact = mvc.perform(post("/createReqMsg")
+						.header(JwsRestController.JSON_FORMAT_HEADER, JwsRestController.JSON_FORMAT_COMPACT)
+						.content(claim))
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+				.andExpect(jsonPath("$.credentialSubject.name").value("test"))
+				.andReturn().getResponse().getContentAsString();
+		String pretty = mvc.perform(post("/createReqMsg")
+						.header(JwsRestController.JSON_FORMAT_HEADER, "pretty")
+						.content(claim))
+				.andReturn().getResponse().getContentAsString();
+		assertFalse(compact.contains("\n"));
+		assertTrue(pretty.contains("\n"));
+		assertTrue(compact.length() < pretty.length());
+
+		mvc.perform(post("/verifyReqMsg")
+						.content(compact))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void I_csvReqMsgBatch() throws Exception {
+		String csv = "uniqueId,name,num\n1000,test,10\n1001,\"kim, test\",20\n";
+		MvcResult result = mvc.perform(post("/createReqMsg/batch")
+						.contentType(JwsRestController.TEXT_CSV_VALUE)
+						.content(csv))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		String[] lines = mvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString().trim().split("\\n");
+		assertEquals(2, lines.length);
+		assertEquals("kim, test", JsonUtil.readTree(lines[1]).at("/credentialSubject/name").asText());
+		for (String line : lines) {
+			mvc.perform(post("/verifyReqMsg")
+							.content(line))
+					.andExpect(status().isOk());
+		}
+
+		result = mvc.perform(post("/createReqMsg/batch")
+						.param("format", "csv")
+						.contentType(JwsRestController.TEXT_CSV_VALUE)
+						.content(csv))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		lines = mvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString().trim().split("\\n");
+		assertEquals(3, lines.length);
+		assertEquals("uniqueId,name,num,publicKey,jws,reason", lines[0]);
+		assertTrue(lines[2].startsWith("1001,\"kim, test\",20,"));
+		assertTrue(lines[2].endsWith(","));
+
+		// 첫 행이 잘못되어도 헤더를 먼저 쓰고 실패 행을 씀
+		result = mvc.perform(post("/createReqMsg/batch")
+						.param("format", "csv")
+						.contentType(JwsRestController.TEXT_CSV_VALUE)
+						.content("uniqueId,name,num\n1000,test,10,extra\n1001,kim,20\n"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		lines = mvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString().trim().split("\\n");
+		assertEquals("uniqueId,name,num,publicKey,jws,reason", lines[0]);
+		assertEquals(",,,,,MALFORMED_MESSAGE", lines[1]);
+	}
+
+	@Test
+	void E_cacheStats() throws Exception {
+		mvc.perform(get("/cacheStats")
+						.session(SESSION))
+				.andDo(print())
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.publicKey.hitRate").isNumber())
+				.andExpect(jsonPath("$.verifyResult.hitRate").isNumber());
+	}
 
 
 
@@ -0,0 +1,74 @@
+package com.example.demo.jfr;
+
+import com.example.demo.config.CryptoExecutor;
+import com.example.demo.config.RsaKeyGenerator;
+import com.example.demo.config.VerifyProperties;
+import com.example.demo.keyring.IssuerRegistry;
+import com.example.demo.keyring.KeyRing;
+import com.example.demo.service.JwsService;
+import com.example.demo.util.Base58Util;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 발행 / 검증 시 단계별 JFR 이벤트가 크기 필드와 함께 기록되는지 확인
+ */
+class JwsEventTest {
+
+	private static final String CLAIM = "{\"uniqueId\":\"1000\",\"name\":\"test\",\"num\":\"10\"}";
+
+	@Test
+	void createAndVerify_emitsEvents() throws Exception {
+		VerifyProperties verifyProperties = new VerifyProperties() {};
+		CryptoExecutor cryptoExecutor = new CryptoExecutor(verifyProperties);
+		Path file = Files.createTempFile("jws", ".jfr");
+		try (Recording recording = new Recording()) {
+			for (String name : new String[] {"KeyLoad", "KeyParse", "Digest", "Base58", "Cipher"}) {
+				recording.enable("com.example.demo." + name).withoutThreshold();
+			}
+			recording.start();
+
+			RsaKeyGenerator rsaKeyGenerator = new RsaKeyGenerator(verifyProperties);
+			JwsService jwsService = new JwsService(verifyProperties, rsaKeyGenerator, cryptoExecutor,
+					new IssuerRegistry(verifyProperties, new KeyRing(verifyProperties), rsaKeyGenerator));
+			KeyPair keyPair = rsaKeyGenerator.getSignatureEngine().generateKeyPair(verifyProperties.getKeySize());
+			JSONObject reqMsg = jwsService.createReqMsg(Base58Util.encode(keyPair.getPublic().getEncoded()),
+					keyPair.getPrivate(), CLAIM);
+			assertTrue(jwsService.verifyReqMsg(reqMsg.toString()));
+
+			recording.stop();
+			recording.dump(file);
+			List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+			List<String> cipher = events.stream().filter(e -> e.getEventType().getName().endsWith("Cipher"))
+					.map(e -> e.getString("operation")).collect(Collectors.toList());
+			assertEquals(2, cipher.size());
+			assertTrue(cipher.contains("sign") && cipher.contains("verify"));
+			for (RecordedEvent event : events) {
+				if (event.getEventType().getName().endsWith("Cipher")) {
+					assertEquals(verifyProperties.getKeySize(), event.getInt("keySize"));
+					assertTrue(event.getInt("payloadSize") > 0);
+				}
+			}
+			assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().endsWith("KeyLoad")
+					&& "parse".equals(e.getString("source"))));
+			assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().endsWith("KeyParse")));
+			assertEquals(2, events.stream().filter(e -> e.getEventType().getName().endsWith("Digest")).count());
+		} finally {
+			Files.deleteIfExists(file);
+			cryptoExecutor.destroy();
+		}
+	}
+}
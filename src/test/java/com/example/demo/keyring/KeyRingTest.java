@@ -0,0 +1,113 @@
+package com.example.demo.keyring;
+
+import com.example.demo.config.VerifyProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.InvalidKeySpecException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 키링이 인덱스를 늘려 가며 추가하고, 다시 열었을 때 같은 키를 찾고, 끊긴 레코드를 잘라내는지 확인
+ */
+class KeyRingTest {
+
+	@TempDir
+	Path folder;
+
+	@Test
+	void putAndGet_acrossGrowAndReopen() throws Exception {
+		VerifyProperties verifyProperties = new VerifyProperties() {};
+		verifyProperties.setPath(folder.toString() + File.separator);
+		verifyProperties.setKeyRingInitialCapacity(16);
+		KeyPair first = KeyPairGenerator.getInstance("EC").generateKeyPair();
+		KeyPair second = KeyPairGenerator.getInstance("EC").generateKeyPair();
+
+		KeyRing keyRing = new KeyRing(verifyProperties);
+		for (int i = 0; i < 3000; i++) {
+			keyRing.put("kid-" + i, first.getPublic());
+		}
+		keyRing.put("private", first.getPrivate());
+		keyRing.put("kid-7", second.getPublic());
+		assertEquals(3001, keyRing.size());
+		assertArrayEquals(second.getPublic().getEncoded(), keyRing.getPublicKey("kid-7").getEncoded());
+		keyRing.destroy();
+
+		// 인덱스는 두 배씩 늘어 하나만 남음
+		assertTrue(Files.exists(folder.resolve("keyring-8192.idx")));
+		assertFalse(Files.exists(folder.resolve("keyring-16.idx")));
+
+		KeyRing reopened = new KeyRing(verifyProperties);
+		assertEquals(3001, reopened.size());
+		assertArrayEquals(first.getPublic().getEncoded(), reopened.getPublicKey("kid-2999").getEncoded());
+		assertArrayEquals(second.getPublic().getEncoded(), reopened.getPublicKey("kid-7").getEncoded());
+		assertArrayEquals(first.getPrivate().getEncoded(), reopened.getPrivateKey("private").getEncoded());
+		assertThrows(InvalidKeySpecException.class, () -> reopened.getPublicKey("private"));
+		assertNull(reopened.get("kid-3000"));
+		reopened.destroy();
+	}
+
+	@Test
+	void open_truncatesTornTailAndIndexesUnindexedRecords() throws Exception {
+		VerifyProperties verifyProperties = new VerifyProperties() {};
+		verifyProperties.setPath(folder.toString() + File.separator);
+		KeyPair keyPair = KeyPairGenerator.getInstance("EC").generateKeyPair();
+
+		KeyRing keyRing = new KeyRing(verifyProperties);
+		keyRing.put("a", keyPair.getPublic());
+		keyRing.put("b", keyPair.getPublic());
+		keyRing.destroy();
+
+		// 인덱스가 없어도 데이터 파일에서 다시 색인, 쓰다 끊긴 끝부분은 잘라냄
+		Path data = folder.resolve("keyring.dat");
+		long size = Files.size(data);
+		Files.delete(folder.resolve("keyring-1024.idx"));
+		try (FileChannel channel = FileChannel.open(data, StandardOpenOption.APPEND)) {
+			channel.write(ByteBuffer.wrap(new byte[] {0, 0, 1, 0, 1, 2, 3}));
+		}
+
+		KeyRing reopened = new KeyRing(verifyProperties);
+		assertEquals(2, reopened.size());
+		assertArrayEquals(keyPair.getPublic().getEncoded(), reopened.getPublicKey("b").getEncoded());
+		assertEquals(size, Files.size(data));
+
+		reopened.put("c", keyPair.getPublic());
+		assertEquals("c", reopened.get("c").getKid());
+		// 추가하면 매핑과 함께 0 으로 늘려 두고, 닫을 때 잘라냄
+		assertTrue(Files.size(data) >= 64 * 1024);
+		reopened.destroy();
+		long closedSize = Files.size(data);
+
+		// 잘라내지 못하고 남은 여유 공간은 다음에 열 때 잘라냄
+		try (FileChannel channel = FileChannel.open(data, StandardOpenOption.APPEND)) {
+			channel.write(ByteBuffer.allocate(4096));
+		}
+		KeyRing padded = new KeyRing(verifyProperties);
+		assertEquals(3, padded.size());
+		assertEquals(closedSize, Files.size(data));
+		padded.destroy();
+
+		// 깨진 길이 (파일 끝을 넘는 2GB 가까이) 는 할당하지 않고 끊긴 레코드로 잘라냄
+		try (FileChannel channel = FileChannel.open(data, StandardOpenOption.APPEND)) {
+			channel.write(ByteBuffer.wrap(new byte[] {0x7f, (byte) 0xff, (byte) 0xff, (byte) 0xf0, 1, 2, 3}));
+		}
+		KeyRing corrupted = new KeyRing(verifyProperties);
+		assertEquals(3, corrupted.size());
+		assertEquals(closedSize, Files.size(data));
+		corrupted.destroy();
+	}
+}
@@ -0,0 +1,64 @@
+package com.example.demo.signature;
+
+import com.example.demo.config.CryptoExecutor;
+import com.example.demo.config.RsaKeyGenerator;
+import com.example.demo.config.VerifyProperties;
+import com.example.demo.keyring.IssuerRegistry;
+import com.example.demo.keyring.KeyRing;
+import com.example.demo.service.JwsService;
+import com.example.demo.util.Base58Util;
+import org.json.JSONObject;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.security.KeyPair;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 설정 가능한 서명 알고리즘마다 발행한 요청문이 검증되고, 위변조는 실패하는지 확인
+ */
+class SignatureEnginesTest {
+
+	private static final String CLAIM = "{\"uniqueId\":\"1000\",\"name\":\"test\",\"num\":\"10\"}";
+
+	@ParameterizedTest
+	@ValueSource(strings = {"RSA", SignatureEngines.ALG_RSA, SignatureEngines.ALG_ECDSA, SignatureEngines.ALG_EDDSA})
+	void createAndVerify(String algorithm) throws Exception {
+		VerifyProperties verifyProperties = new VerifyProperties() {};
+		verifyProperties.setAlgorithm(algorithm);
+		CryptoExecutor cryptoExecutor = new CryptoExecutor(verifyProperties);
+		try {
+			RsaKeyGenerator rsaKeyGenerator = new RsaKeyGenerator(verifyProperties);
+			JwsService jwsService = new JwsService(verifyProperties, rsaKeyGenerator, cryptoExecutor,
+					new IssuerRegistry(verifyProperties, new KeyRing(verifyProperties), rsaKeyGenerator));
+			SignatureEngine engine = rsaKeyGenerator.getSignatureEngine();
+			KeyPair keyPair = engine.generateKeyPair(verifyProperties.getKeySize());
+			String publicKey = Base58Util.encode(keyPair.getPublic().getEncoded());
+
+			JSONObject reqMsg = jwsService.createReqMsg(publicKey, keyPair.getPrivate(), CLAIM);
+			assertEquals(engine.getAlg(), reqMsg.getString("alg"));
+			assertTrue(jwsService.verifyReqMsg(reqMsg.toString()));
+			// 같은 요청문은 검증 결과 캐시에서 리턴
+			assertTrue(jwsService.verifyReqMsg(reqMsg.toString()));
+			assertEquals(1, jwsService.getVerifyCacheStats().hitCount());
+
+			// claim 위변조
+			String tampered = reqMsg.toString().replace("\"test\"", "\"tesT\"");
+			assertFalse(jwsService.verifyReqMsg(tampered));
+
+			// header 의 alg 를 다른 엔진으로 바꿔치기
+			String jws = reqMsg.getString("jws");
+			for (SignatureEngine other : SignatureEngines.all()) {
+				if (other != engine) {
+					reqMsg.put("jws", other.getHeader() + jws.substring(jws.indexOf('.')));
+					assertFalse(jwsService.verifyReqMsg(0, reqMsg.toString()).isValid(), other.getAlg());
+				}
+			}
+		} finally {
+			cryptoExecutor.destroy();
+		}
+	}
+}
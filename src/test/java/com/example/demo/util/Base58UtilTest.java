@@ -0,0 +1,109 @@
+package com.example.demo.util;
+
+import org.bitcoinj.core.Base58;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Base58Util 이 bitcoinj Base58 와 같은 결과를 내는지 임의 입력으로 비교
+ */
+class Base58UtilTest {
+
+	/**
+	 * 재현할 수 있도록 시드 고정
+	 */
+	private static final Random RANDOM = new Random(58L);
+
+	@Test
+	void encodeDecode_sameAsBitcoinj() {
+		for (int i = 0; i < 1000; i++) {
+			byte[] input = randomBytes(RANDOM.nextInt(1300), RANDOM.nextInt(4));
+			String expected = Base58.encode(input);
+
+			assertEquals(expected, Base58Util.encode(input));
+			assertArrayEquals(Base58.decode(expected), Base58Util.decode(expected));
+		}
+	}
+
+	@Test
+	void encodeDecode_edgeValues() {
+		byte[][] inputs = {
+				new byte[0],
+				new byte[]{0},
+				new byte[]{0, 0, 0},
+				new byte[]{1},
+				new byte[]{(byte) 0xff},
+				new byte[]{0, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff},
+				new byte[]{1, 0, 0, 0, 0},
+				new byte[]{0, 0, 1, 0, 0, 0, 0, 0},
+		};
+		for (byte[] input : inputs) {
+			String expected = Base58.encode(input);
+			assertEquals(expected, Base58Util.encode(input));
+			assertArrayEquals(input, Base58Util.decode(expected));
+		}
+		// 58 의 거듭제곱 경계
+		for (int digits = 1; digits < 40; digits++) {
+			StringBuilder ones = new StringBuilder("2");
+			StringBuilder zs = new StringBuilder();
+			for (int i = 0; i < digits; i++) {
+				ones.append('1');
+				zs.append('z');
+			}
+			assertArrayEquals(Base58.decode(ones.toString()), Base58Util.decode(ones));
+			assertArrayEquals(Base58.decode(zs.toString()), Base58Util.decode(zs));
+			assertEquals(zs.toString(), Base58Util.encode(Base58.decode(zs.toString())));
+		}
+	}
+
+	@Test
+	void encodeDecode_rsaKeys() throws Exception {
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+		keyPairGenerator.initialize(2048);
+		KeyPair keyPair = keyPairGenerator.genKeyPair();
+		for (byte[] key : new byte[][]{keyPair.getPublic().getEncoded(), keyPair.getPrivate().getEncoded()}) {
+			String encoded = Base58Util.encode(key);
+			assertEquals(Base58.encode(key), encoded);
+			assertArrayEquals(key, Base58Util.decode(encoded));
+		}
+	}
+
+	@Test
+	void encodeDecode_byteOverloads() {
+		for (int i = 0; i < 100; i++) {
+			byte[] input = randomBytes(RANDOM.nextInt(100), RANDOM.nextInt(3));
+			String encoded = Base58Util.encode(input);
+			byte[] ascii = ("..." + encoded + "..").getBytes(StandardCharsets.US_ASCII);
+
+			assertArrayEquals(input, Base58Util.decode(ascii, 3, encoded.length()));
+			byte[] padded = new byte[input.length + 5];
+			System.arraycopy(input, 0, padded, 2, input.length);
+			assertEquals(encoded, Base58Util.encode(padded, 2, input.length));
+		}
+		assertThrows(IllegalArgumentException.class,
+				() -> Base58Util.decode(new byte[]{'a', (byte) 0xc3, 'b'}, 0, 3));
+	}
+
+	@Test
+	void decode_invalidCharacter() {
+		assertThrows(IllegalArgumentException.class, () -> Base58Util.decode("abc0def"));
+		assertThrows(IllegalArgumentException.class, () -> Base58Util.decode("abcOdef"));
+		assertThrows(IllegalArgumentException.class, () -> Base58Util.decode("ab한글"));
+	}
+
+	private static byte[] randomBytes(int length, int leadingZeros) {
+		byte[] bytes = new byte[length + leadingZeros];
+		byte[] random = new byte[length];
+		RANDOM.nextBytes(random);
+		System.arraycopy(random, 0, bytes, leadingZeros, length);
+		return bytes;
+	}
+}
@@ -0,0 +1,114 @@
+package com.example.demo.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * BinaryCodec 이 키 / claim / 토큰을 그대로 복원하고 Java 직렬화보다 작은지, ByteBuffer 로도 같게 동작하는지,
+ * 잘리거나 길이가 잘못된 입력을 IllegalArgumentException 으로 거절하는지 확인
+ */
+class BinaryCodecTest {
+
+	private static final String CLAIM = "{\"uniqueId\":\"1000\",\"name\":\"홍길동 😀\",\"num\":10,\"big\":12345678901234567890,"
+			+ "\"rate\":1.50,\"negative\":-0,\"min\":-9223372036854775808,\"flags\":[true,false,null,[],{}],"
+			+ "\"nested\":{\"\":\"empty name\"}}";
+
+	@Test
+	void keyClaimToken_roundTrip() throws Exception {
+		KeyPair keyPair = KeyPairGenerator.getInstance("EC").generateKeyPair();
+		Key publicKey = BinaryCodec.decodeKey(BinaryCodec.encodeKey(keyPair.getPublic()));
+		Key privateKey = BinaryCodec.decodeKey(BinaryCodec.encodeKey(keyPair.getPrivate()));
+		assertTrue(publicKey instanceof PublicKey);
+		assertTrue(privateKey instanceof PrivateKey);
+		assertArrayEquals(keyPair.getPublic().getEncoded(), publicKey.getEncoded());
+		assertArrayEquals(keyPair.getPrivate().getEncoded(), privateKey.getEncoded());
+		assertTrue(BinaryCodec.encodeKey(keyPair.getPublic()).length
+				< ByteUtil.objectToBytes(keyPair.getPublic()).length);
+
+		byte[] claim = BinaryCodec.encodeClaim(CLAIM);
+		assertEquals(CLAIM, BinaryCodec.decodeClaim(claim));
+		String plain = "{\"uniqueId\":\"1000\",\"name\":\"test\",\"num\":10}";
+		assertTrue(BinaryCodec.encodeClaim(plain).length < plain.length());
+
+		String payload = Base58Util.encode(ByteUtil.bytesToHex(new byte[32], new byte[64]));
+		String jws = "2VfUX8Es3hh." + payload + ".c2lnbmF0dXJl";
+		byte[] token = BinaryCodec.encodeToken(jws);
+		assertEquals(jws, BinaryCodec.decodeToken(token));
+		assertTrue(token.length < jws.length());
+
+		// Base64 패딩이 없는 등 다시 인코딩하면 달라지는 토큰은 문자열 그대로 담아 복원
+		String unpadded = "h.notBase58Hex0.c2lnbmF0dXJlIQ";
+		assertEquals(unpadded, BinaryCodec.decodeToken(BinaryCodec.encodeToken(unpadded)));
+		assertThrows(IllegalArgumentException.class, () -> BinaryCodec.encodeToken("header.payload"));
+	}
+
+	@Test
+	void byteBuffer_heapAndDirect() throws Exception {
+		String jws = "2VfUX8Es3hh." + Base58Util.encode("abc".getBytes(StandardCharsets.US_ASCII)) + ".c2lnbmF0dXJl";
+		for (ByteBuffer buffer : new ByteBuffer[] {ByteBuffer.allocate(1024), ByteBuffer.allocateDirect(1024)}) {
+			int claimSize = BinaryCodec.encodeClaim(CLAIM, buffer);
+			int tokenSize = BinaryCodec.encodeToken(jws, buffer);
+			ByteUtil.stringToBytes("끝", buffer);
+			assertEquals(claimSize + tokenSize + ByteUtil.utf8Length("끝"), buffer.position());
+
+			buffer.flip();
+			assertEquals(CLAIM, BinaryCodec.decodeClaim(buffer));
+			assertEquals(jws, BinaryCodec.decodeToken(buffer));
+			assertEquals("끝", ByteUtil.bytesToString(buffer, buffer.remaining()));
+		}
+
+		byte[] truncated = BinaryCodec.encodeClaim(CLAIM);
+		assertThrows(IllegalArgumentException.class,
+				() -> BinaryCodec.decodeClaim(ByteBuffer.wrap(truncated, 0, truncated.length - 3)));
+		assertEquals(4, ByteUtil.utf8Length("😀"));
+		assertEquals("\ud800".getBytes(StandardCharsets.UTF_8).length, ByteUtil.utf8Length("\ud800"));
+	}
+
+	@Test
+	void decode_rejectsTruncatedAndOversizedLengths() throws Exception {
+		// 잘린 입력은 어느 위치에서 잘려도 IllegalArgumentException
+		byte[] key = BinaryCodec.encodeKey(KeyPairGenerator.getInstance("EC").generateKeyPair().getPublic());
+		byte[] claim = BinaryCodec.encodeClaim(CLAIM);
+		byte[] token = BinaryCodec.encodeToken("2VfUX8Es3hh." + Base58Util.encode(ByteUtil.bytesToHex(new byte[32],
+				new byte[64])) + ".c2lnbmF0dXJl");
+		for (int length = 0; length < key.length; length++) {
+			ByteBuffer src = ByteBuffer.wrap(key, 0, length);
+			assertThrows(IllegalArgumentException.class, () -> BinaryCodec.decodeKey(src));
+		}
+		for (int length = 0; length < claim.length; length++) {
+			ByteBuffer src = ByteBuffer.wrap(claim, 0, length);
+			assertThrows(IllegalArgumentException.class, () -> BinaryCodec.decodeClaim(src));
+		}
+		for (int length = 0; length < token.length; length++) {
+			ByteBuffer src = ByteBuffer.wrap(token, 0, length);
+			assertThrows(IllegalArgumentException.class, () -> BinaryCodec.decodeToken(src));
+		}
+
+		// 2^31 에 가까운 길이는 배열을 할당하기 전에 거절 (OutOfMemoryError 가 나지 않음)
+		byte[] hugeLength = {(byte) 0xfe, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x07};
+		byte[] oversizedKey = {'K', 0, 2, 'E', 'C', hugeLength[0], hugeLength[1], hugeLength[2], hugeLength[3],
+				hugeLength[4]};
+		assertThrows(IllegalArgumentException.class, () -> BinaryCodec.decodeKey(oversizedKey));
+		byte[] oversizedToken = {'T', 0, hugeLength[0], hugeLength[1], hugeLength[2], hugeLength[3], hugeLength[4]};
+		assertThrows(IllegalArgumentException.class, () -> BinaryCodec.decodeToken(oversizedToken));
+
+		// 힙 버퍼의 배열이 limit 뒤로 이어져도 버퍼 범위 밖은 읽지 않음
+		byte[] text = "abcdef".getBytes(StandardCharsets.US_ASCII);
+		assertThrows(BufferUnderflowException.class, () -> ByteUtil.bytesToString(ByteBuffer.wrap(text, 0, 3), 6));
+		assertThrows(BufferUnderflowException.class,
+				() -> ByteUtil.bytesToString(ByteBuffer.allocateDirect(4), Integer.MAX_VALUE));
+	}
+}
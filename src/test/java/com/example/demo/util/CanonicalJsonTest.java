@@ -0,0 +1,80 @@
+package com.example.demo.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * CanonicalJson 이 RFC 8785 정규화 결과와 같은 해시를 내는지 확인
+ */
+class CanonicalJsonTest {
+
+	@Test
+	void digest_sortsKeysAndRemovesWhitespace() throws Exception {
+		String expected = "{\"a\":[1,\"x\",true,null,{\"b\":2,\"c\":3}],\"num\":\"10\",\"z\":false}";
+
+		assertDigest(expected, "{ \"z\" : false, \"num\" : \"10\", \"a\" : [ 1.0, \"x\", true, null, {\"c\":3, \"b\":2} ] }");
+		assertDigest(expected, expected);
+	}
+
+	@Test
+	void digest_sortsByUtf16CodeUnits() throws Exception {
+		// RFC 8785 3.2.3 의 정렬 예시
+		String expected = "{\"\\r\":\"Carriage Return\",\"1\":\"One\",\"\u0080\":\"Control\",\"ö\":\"Latin Small Letter O With Diaeresis\","
+				+ "\"€\":\"Euro Sign\",\"\uD83D\uDE00\":\"Emoji: Grinning Face\",\"\uFB33\":\"Hebrew Letter Dalet With Dagesh\"}";
+
+		assertDigest(expected, "{\"€\":\"Euro Sign\",\"\\r\":\"Carriage Return\",\"\uFB33\":\"Hebrew Letter Dalet With Dagesh\","
+				+ "\"1\":\"One\",\"\uD83D\uDE00\":\"Emoji: Grinning Face\",\"\\u0080\":\"Control\","
+				+ "\"ö\":\"Latin Small Letter O With Diaeresis\"}");
+	}
+
+	@Test
+	void digest_escapesStrings() throws Exception {
+		assertDigest("\"\\\"\\\\\\b\\t\\n\\f\\r\\u001f/한글\"", "\"\\\"\\\\\\b\\t\\n\\f\\r\\u001F\\/\\ud55c\\uae00\"");
+	}
+
+	@Test
+	void formatNumber_es6() {
+		assertEquals("0", CanonicalJson.formatNumber(-0.0));
+		assertEquals("1", CanonicalJson.formatNumber(1.0));
+		assertEquals("-1.5", CanonicalJson.formatNumber(-1.5));
+		assertEquals("1e+30", CanonicalJson.formatNumber(1e30));
+		assertEquals("4.5", CanonicalJson.formatNumber(4.50));
+		assertEquals("0.002", CanonicalJson.formatNumber(2e-3));
+		assertEquals("1e-7", CanonicalJson.formatNumber(1e-7));
+		assertEquals("0.000001", CanonicalJson.formatNumber(1e-6));
+		assertEquals("333333333.3333333", CanonicalJson.formatNumber(333333333.33333329));
+		assertEquals("100000000000000000000", CanonicalJson.formatNumber(1e20));
+		assertEquals("1e+21", CanonicalJson.formatNumber(1e21));
+		assertEquals("9007199254740992", CanonicalJson.formatNumber(9007199254740992.0));
+		assertEquals("295147905179352830000", CanonicalJson.formatNumber(295147905179352825856.0));
+	}
+
+	@Test
+	void digest_rejectsDuplicateKeys() {
+		assertThrows(JsonProcessingException.class,
+				() -> CanonicalJson.digest("{\"a\":1,\"a\":2}", MessageDigest.getInstance("SHA-256")));
+	}
+
+	@Test
+	void digest_rejectsLoneSurrogates() {
+		assertThrows(JsonProcessingException.class,
+				() -> CanonicalJson.digest("{\"a\":\"\\ud800\"}", MessageDigest.getInstance("SHA-256")));
+		assertThrows(JsonProcessingException.class,
+				() -> CanonicalJson.digest("{\"a\":\"x\\udc00\\ud800\"}", MessageDigest.getInstance("SHA-256")));
+		assertThrows(JsonProcessingException.class,
+				() -> CanonicalJson.digest("{\"\\ud83d\":1}", MessageDigest.getInstance("SHA-256")));
+	}
+
+	private static void assertDigest(String canonical, String json) throws Exception {
+		MessageDigest digest = MessageDigest.getInstance("SHA-256");
+		byte[] expected = digest.digest(canonical.getBytes(StandardCharsets.UTF_8));
+		assertArrayEquals(expected, CanonicalJson.digest(json, digest));
+	}
+}